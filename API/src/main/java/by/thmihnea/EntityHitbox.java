@@ -29,9 +29,6 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.util.Vector;
 
-import java.util.Arrays;
-import java.util.Optional;
-
 public enum EntityHitbox {
 
     ZOMBIE(EntityType.ZOMBIE, -0.1, 0, 0),
@@ -65,6 +62,24 @@ public enum EntityHitbox {
     ENTITY_PLAYER(EntityType.PLAYER, 0.075, 0, 0),
     ENTITY_ITEM(EntityType.DROPPED_ITEM, -1.65, 0, 0);
 
+    /**
+     * The y offset every hitbox height
+     * is relative to.
+     */
+    private static final double BASE_OFFSET_Y = 1.9D;
+
+    /**
+     * Lookup table pointing each {@link EntityType}, by
+     * its ordinal, at its {@link EntityHitbox}. Types which
+     * have no hitbox of their own are left null.
+     */
+    private static final EntityHitbox[] BY_TYPE = new EntityHitbox[EntityType.values().length];
+
+    static {
+        for (EntityHitbox entityHitbox : values())
+            BY_TYPE[entityHitbox.getEntityType().ordinal()] = entityHitbox;
+    }
+
     /**
      * The entity type for which we're
      * re-building the actual hitbox.
@@ -85,6 +100,12 @@ public enum EntityHitbox {
     private double offsetX;
     private double offsetZ;
 
+    /**
+     * The final y offset of the Name Tag, relative
+     * to the entity's location, computed once.
+     */
+    private final double offsetY;
+
     /**
      * Default constructor for each Enum item.
      * @param entityType The entity type of the enum value.
@@ -97,15 +118,27 @@ public enum EntityHitbox {
         this.height = height;
         this.offsetX = offsetX;
         this.offsetZ = offsetZ;
+        this.offsetY = height + BASE_OFFSET_Y;
     }
 
     /**
      * Returns the location modifier vector, with the
      * x, y and z offsets.
+     * Allocates a new {@link Vector} on each call, so
+     * prefer {@link #getOffsetY()} on hot paths.
      * @return {@link Vector}
      */
     public Vector getLocationModifier() {
-        return new Vector(this.getOffsetX(), this.getHeight() + 1.9D, this.getOffsetZ());
+        return new Vector(this.getOffsetX(), this.offsetY, this.getOffsetZ());
+    }
+
+    /**
+     * Returns the y offset of the Name Tag,
+     * relative to the entity's location.
+     * @return {@link Double}
+     */
+    public double getOffsetY() {
+        return this.offsetY;
     }
 
     /**
@@ -146,30 +179,36 @@ public enum EntityHitbox {
     /**
      * Returns the {@link EntityHitbox} enum object
      * based off of the {@link Entity} parameter.
-     * Uses {@link Optional<T>} for better performance
-     * overall.
+     * A single array lookup by the type's ordinal,
+     * which doesn't allocate anything.
      * @param entity Entity which we're comparing to.
      * @return {@link EntityHitbox}
      */
     public static EntityHitbox getFromEntity(Entity entity) {
-        EntityType entityType = entity.getType();
-        Optional<EntityHitbox> match = Arrays.stream(values()).filter(entityHitbox -> entityHitbox.getEntityType().equals(entityType)).findFirst();
-        return match.orElse(ZOMBIE);
+        EntityHitbox entityHitbox = BY_TYPE[entity.getType().ordinal()];
+        return entityHitbox == null ? ZOMBIE : entityHitbox;
+    }
+
+    /**
+     * Returns the y offset of the Name Tag
+     * of a certain {@link Entity}, relative to
+     * its location.
+     * @param entity Entity which we're comparing to.
+     * @return {@link Double}
+     */
+    public static double getOffsetY(Entity entity) {
+        return getFromEntity(entity).offsetY;
     }
 
     /**
      * Returns whether or not a certain
      * {@link Entity} exists in our
      * {@link EntityHitbox} Enum.
-     * Uses {@link Optional<T>} for better performance
-     * overall.
      * @param entity The entity parameter off of
      *               which we're basing our search.
      * @return {@link Boolean}
      */
     public static boolean exists(Entity entity) {
-        EntityType entityType = entity.getType();
-        Optional<EntityHitbox> match = Arrays.stream(values()).filter(entityHitbox -> entityHitbox.getEntityType().equals(entityType)).findFirst();
-        return match.isPresent();
+        return BY_TYPE[entity.getType().ordinal()] != null;
     }
 }
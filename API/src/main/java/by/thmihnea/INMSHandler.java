@@ -31,8 +31,12 @@ import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public interface INMSHandler {
 
@@ -40,9 +44,11 @@ public interface INMSHandler {
      * Method used for setting the main Name Tag
      * of a specific {@link Entity}, passed as an actual
      * Bukkit API entity. This method actually changes only the
-     * line number 0 of the {@link LineCacheManager} object. This also
+     * line number 0 of the {@link TagRegistry} lines. This also
      * is the base line for each NameTag, each additional line should only be
      * placed after you've set a Name Tag to the {@link Entity}.
+     * Safe to call from any thread. Off the main thread, the
+     * operation is queued and run during the next tick.
      * @param player Player who should see this Name Tag.
      * @param entity The entity which holds the Name Tag.
      * @param tag The tag itself, what should be written
@@ -62,6 +68,8 @@ public interface INMSHandler {
      * Don't bother making custom {@link org.bukkit.event.player.PlayerQuitEvent} events
      * which delete the Name Tags of each player, as our {@link PacketUpdateTask} runnable
      * already handles this.
+     * Safe to call from any thread. Off the main thread, the
+     * operation is queued and run during the next tick.
      * @param player Player who we should delete the NameTag
      *               for.
      * @param entity Entity which we should delete the
@@ -73,7 +81,7 @@ public interface INMSHandler {
      * Method used for setting the main Name Tag
      * of a specific {@link Collection} of {@link Entity}, passed as actual
      * Bukkit API entities. This method actually changes only the
-     * line number 0 of the {@link LineCacheManager} object. This also
+     * line number 0 of the {@link TagRegistry} lines. This also
      * is the base line for each NameTag, each additional line should only be
      * placed after you've set a Name Tag to the {@link Entity}.
      * @param players Players for which we should set the
@@ -85,6 +93,31 @@ public interface INMSHandler {
      */
     void setNameTag(Collection<? extends Player> players, Entity entity, String tag);
 
+    /**
+     * Sets a localized Name Tag of an {@link Entity} for a
+     * {@link Collection} of players. The players are grouped by
+     * their client locale and each group gets the variant of its
+     * locale, so a multilingual server resolves, translates and
+     * compiles each variant once per locale rather than once per
+     * player. A locale without a variant falls back to its
+     * language alone (e.g. "de") and then to "en_us"; players
+     * matching no variant at all are skipped. The variants are
+     * kept with the entity until its Name Tag is deleted, and
+     * line number 0 is resolved again whenever a viewer's locale
+     * changes, including the real locale sent right after joining.
+     * This needs 1.12 or newer; older servers resolve the
+     * variants once, when this method is called. Replacing line
+     * number 0 through setLine or setLines only lasts until the
+     * viewer's next locale change.
+     * @param players Players for which we should set the
+     *                Name Tag. Use {@link Bukkit#getOnlinePlayers()}
+     *                so that your changes have a global effect.
+     * @param entity The entity which holds the Name Tag.
+     * @param variants The tag in every language, pointed at by
+     *                 lower-case locales such as "en_us" or "de".
+     */
+    void setLocalizedNameTag(Collection<? extends Player> players, Entity entity, Map<String, String> variants);
+
     /**
      * Entirely deletes the Name Tag of a {@link Collection} of
      * {@link Entity} entities.
@@ -108,7 +141,7 @@ public interface INMSHandler {
      * Adds a line to an Entity Name Tag.
      * This method calculates the exact coordinates
      * that the line should have and then puts it on
-     * top of the last line in the {@link LineCacheManager#getLines(Entity, Player)}
+     * top of the last line in the {@link TagRegistry#getLines(Entity, Player)}
      * list of lines, which are actually {@link EntityLiving}, not
      * lines of Strings. :)
      * Note that this method only adds a line to a single player,
@@ -116,6 +149,8 @@ public interface INMSHandler {
      * For effects to take place globally, make sure
      * to use {@link Bukkit#getOnlinePlayers()} and the method below this
      * one.
+     * Safe to call from any thread. Off the main thread, the
+     * operation is queued and run during the next tick.
      * @param player The player for which we should add
      *               the line/display the packet.
      * @param entity The entity which we should add
@@ -129,7 +164,7 @@ public interface INMSHandler {
      * Adds a line to an Entity Name Tag.
      * This method calculates the exact coordinates
      * that the line should have and then puts it on
-     * top of the last line in the {@link LineCacheManager#getLines(Entity, Player)}
+     * top of the last line in the {@link TagRegistry#getLines(Entity, Player)}
      * list of lines, which are actually {@link EntityLiving}, not
      * lines of Strings. :)
      * Note that this method only adds a line to a single player,
@@ -148,9 +183,11 @@ public interface INMSHandler {
      * line, passed as a number in the parameters list.
      * Note that counting begins at 0. Deletion of
      * line number 0 is prohibited and not permitted, as it will
-     * have some negative effects with {@link CacheManager}.
+     * have some negative effects with {@link TagRegistry}.
      * I'm aiming to fix this problem in the next version
      * of the API.
+     * Safe to call from any thread. Off the main thread, the
+     * operation is queued and run during the next tick.
      * @param player Player for which we should remove
      *               the line.
      * @param entity Entity holding the NameTag.
@@ -164,7 +201,7 @@ public interface INMSHandler {
      * line, passed as a number in the parameters list.
      * Note that counting begins at 0. Deletion of
      * line number 0 is prohibited and not permitted, as it will
-     * have some negative effects with {@link CacheManager}.
+     * have some negative effects with {@link TagRegistry}.
      * I'm aiming to fix this problem in the next version
      * of the API.
      * @param players Players for which we should remove
@@ -175,6 +212,259 @@ public interface INMSHandler {
      */
     void removeLine(Collection<? extends Player> players, Entity entity, int line);
 
+    /**
+     * Replaces every line of an {@link Entity}'s Name Tag at
+     * once, diffing against the lines the player already sees
+     * instead of deleting and re-creating the whole Name Tag.
+     * Lines whose text changed get a single metadata packet,
+     * unchanged lines get nothing, new lines are spawned on top
+     * and lines which are no longer needed are removed with a
+     * single destroy packet, so nothing flickers.
+     * Safe to call from any thread.
+     * @param player Player for which we should set the lines.
+     * @param entity The entity which holds the Name Tag.
+     * @param lines Every line of the Name Tag, line number 0
+     *              first. An empty list deletes the Name Tag.
+     */
+    void setLines(Player player, Entity entity, List<String> lines);
+
+    /**
+     * Changes the text of a single line of an {@link Entity}'s
+     * Name Tag in place. Unlike removing the line and adding it
+     * back, this sends a single metadata packet and leaves the
+     * armor stand, its entity id, its update task and every
+     * cache untouched. Nothing is sent if the line already
+     * shows the text.
+     * Safe to call from any thread.
+     * @param player Player for which we should change the line.
+     * @param entity The entity which holds the Name Tag.
+     * @param line The line number. Line number 0
+     *             is the actual Name Tag.
+     * @param tag The new text of the line.
+     */
+    void setLine(Player player, Entity entity, int line, String tag);
+
+    /**
+     * Changes the text of a single line of an {@link Entity}'s
+     * Name Tag in place, for a {@link Collection} of players.
+     * @param players Players for which we should change the line.
+     * @param entity The entity which holds the Name Tag.
+     * @param line The line number. Line number 0
+     *             is the actual Name Tag.
+     * @param tag The new text of the line.
+     */
+    void setLine(Collection<? extends Player> players, Entity entity, int line, String tag);
+
+    /**
+     * Replaces every line of an {@link Entity}'s Name Tag at
+     * once for a {@link Collection} of players, diffing against
+     * the lines each of them already sees.
+     * @param players Players for which we should set the lines.
+     * @param entity The entity which holds the Name Tag.
+     * @param lines Every line of the Name Tag, line number 0
+     *              first. An empty list deletes the Name Tag.
+     */
+    void setLines(Collection<? extends Player> players, Entity entity, List<String> lines);
+
+    /**
+     * Shows or hides every line of an {@link Entity}'s Name Tag
+     * for a single {@link Player}, without destroying the fake
+     * armor stands. Only the custom name visibility flag is flipped,
+     * meaning a single metadata packet is sent per line, while every
+     * cached entry and {@link PacketUpdateTask} stays alive.
+     * Prefer this over {@link #deleteNameTag(Player, Entity)} followed
+     * by {@link #setNameTag(Player, Entity, String)} whenever you're
+     * toggling tags often (sneaking, line of sight, combat).
+     * Safe to call from any thread. Off the main thread, the
+     * operation is queued and run during the next tick.
+     * @param player Player for which we should toggle
+     *               the Name Tag.
+     * @param entity Entity holding the Name Tag.
+     * @param visible Whether or not the Name Tag should
+     *                be visible.
+     */
+    void setNameTagVisible(Player player, Entity entity, boolean visible);
+
+    /**
+     * Shows or hides every line of an {@link Entity}'s Name Tag
+     * for a {@link Collection} of players, without destroying the fake
+     * armor stands. Use {@link Bukkit#getOnlinePlayers()} so that your
+     * changes have a global effect.
+     * @param players Players for which we should toggle
+     *                the Name Tag.
+     * @param entity Entity holding the Name Tag.
+     * @param visible Whether or not the Name Tag should
+     *                be visible.
+     */
+    void setNameTagVisible(Collection<? extends Player> players, Entity entity, boolean visible);
+
+    /**
+     * Creates a static, client-sided hologram anchored to a
+     * {@link Location} instead of an {@link Entity}. Static holograms
+     * are never teleported, as they have no {@link PacketUpdateTask}; they
+     * are indexed by the chunk they're placed in and their packets are
+     * only sent whenever a player starts tracking that chunk, so they don't
+     * cost any server work after having been spawned.
+     * This method should only be called from the main thread.
+     * @param location Location of the first (top) line.
+     * @param lines The lines of the hologram, from top
+     *              to bottom.
+     * @return {@link Integer} The id of the hologram, used for
+     *         deleting it later on.
+     */
+    int createHologram(Location location, List<String> lines);
+
+    /**
+     * Entirely deletes a static hologram which has been
+     * created with {@link #createHologram(Location, List)}, destroying
+     * it for every player in its world.
+     * This method should only be called from the main thread.
+     * @param id The id of the hologram.
+     */
+    void deleteHologram(int id);
+
+    /**
+     * Spawns a piece of floating text which only lives
+     * for a limited amount of ticks, such as damage indicators.
+     * Transient text isn't attached to any entity and has no
+     * {@link PacketUpdateTask}; its expiry is tracked by a single
+     * timing wheel, and every piece of text expiring during the same
+     * tick is destroyed with one packet per player.
+     * This method should only be called from the main thread.
+     * @param player Player who should see the text.
+     * @param location Location at which the text
+     *                 should be displayed.
+     * @param text The text itself.
+     * @param ticks For how many ticks the text should
+     *              be displayed.
+     */
+    void spawnTransientText(Player player, Location location, String text, int ticks);
+
+    /**
+     * Spawns a piece of floating text which only lives
+     * for a limited amount of ticks, for a {@link Collection}
+     * of players. Use {@link Bukkit#getOnlinePlayers()} so that your
+     * changes have a global effect.
+     * This method should only be called from the main thread.
+     * @param players Players who should see the text.
+     * @param location Location at which the text
+     *                 should be displayed.
+     * @param text The text itself.
+     * @param ticks For how many ticks the text should
+     *              be displayed.
+     */
+    void spawnTransientText(Collection<? extends Player> players, Location location, String text, int ticks);
+
+    /**
+     * Spawns a piece of moving floating text for a {@link Collection}
+     * of players, such as rising or drifting damage indicators.
+     * Fake armor stands aren't simulated by the client, so the
+     * server steps the flight (gravity and drag) each tick and
+     * sends a teleport packet per viewer until the text expires.
+     * This method should only be called from the main thread.
+     * @param players Players who should see the text.
+     * @param location Location at which the text
+     *                 should be spawned.
+     * @param text The text itself.
+     * @param velocity The initial velocity of the text.
+     * @param ticks For how many ticks the text should be displayed.
+     *              Pass 0 or less to remove it as soon as it falls back
+     *              down to the height it has been spawned at.
+     */
+    void spawnTransientText(Collection<? extends Player> players, Location location, String text, Vector velocity, int ticks);
+
+    /**
+     * Enables clustering of dense areas of tagged entities.
+     * Tagged entities are grouped in a grid, and whenever at least
+     * {@code threshold} entities of the same type share a cell, players
+     * further away than {@code distance} see a single aggregate tag,
+     * such as "Zombie &times;150", instead of every individual Name Tag.
+     * Clusters are re-computed once per second.
+     * @param cellSize Size of a grid cell, in blocks.
+     * @param threshold Minimum number of entities which
+     *                  should be aggregated.
+     * @param distance Distance past which players see the
+     *                 aggregate tag.
+     */
+    void enableClustering(double cellSize, int threshold, double distance);
+
+    /**
+     * Disables clustering, removing every aggregate
+     * tag and showing back every individual Name Tag.
+     */
+    void disableClustering();
+
+    /**
+     * Binds a line of an {@link Entity}'s Name Tag to a text
+     * supplier. The supplier is evaluated once every period, on
+     * the main thread, no matter how many players see the line,
+     * and a packet is only sent to the players whose line doesn't
+     * already show the rendered text. Lines are addressed by their
+     * number, so removing a line above shifts the binding. The
+     * binding is dropped once the Name Tag is deleted for every player.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number. Line number 0
+     *             is the actual Name Tag.
+     * @param supplier Supplies the raw text of the line.
+     * @param period How often, in ticks, the supplier
+     *               should be evaluated.
+     */
+    void bindLine(Entity entity, int line, Supplier<String> supplier, int period);
+
+    /**
+     * Unbinds a line of an {@link Entity}'s Name Tag
+     * from its supplier. The line keeps showing the
+     * last text it has been sent.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number.
+     */
+    void unbindLine(Entity entity, int line);
+
+    /**
+     * Binds a line of a {@link LivingEntity}'s Name Tag to its
+     * health. Rather than being refreshed on a timer, the line is
+     * only updated when the entity gets damaged or healed, with
+     * every change within a tick collapsing into a single metadata
+     * packet per viewer, so idle mobs cost nothing. The health bar
+     * is dropped once the Name Tag is deleted for every player.
+     * @param livingEntity The entity whose health is shown.
+     * @param line The line number. Line number 0
+     *             is the actual Name Tag.
+     * @param format The format of the line, with {hp} and {max}
+     *               standing for the current and maximum health,
+     *               or null for the default format.
+     */
+    void bindHealthBar(LivingEntity livingEntity, int line, String format);
+
+    /**
+     * Unbinds the health bar of a {@link LivingEntity}.
+     * The line keeps showing the last health it has been sent.
+     * @param livingEntity The entity.
+     */
+    void unbindHealthBar(LivingEntity livingEntity);
+
+    /**
+     * Animates a line of an {@link Entity}'s Name Tag. Every
+     * frame is compiled once, here, and the line cycles through
+     * them, sending only an already built name on each frame.
+     * The animation stops once the Name Tag is deleted for every player.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number. Line number 0
+     *             is the actual Name Tag.
+     * @param frames The raw text of each frame.
+     * @param interval How long, in ticks, each
+     *                 frame is shown for.
+     */
+    void animateLine(Entity entity, int line, List<String> frames, int interval);
+
+    /**
+     * Stops the animation of a line of an {@link Entity}'s
+     * Name Tag. The line keeps showing its current frame.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number.
+     */
+    void stopAnimation(Entity entity, int line);
+
     /**
      * Begin monitoring the pipeline (packets)
      * being sent and received by a certain {@link Player}.
@@ -223,6 +513,19 @@ public interface INMSHandler {
      */
     Object getDestroyPacket(LivingEntity livingEntity);
 
+    /**
+     * Returns a single packet that should destroy
+     * every entity id passed as a parameter, which is
+     * way cheaper than sending one packet per entity.
+     * Doesn't send it to the player; make sure to use
+     * the method {@link #sendPacket(Player, Object)} to
+     * send it as well.
+     * @param entityIds The ids of the entities which shall
+     *                  be destroyed.
+     * @return {@link Object}
+     */
+    Object getDestroyPacket(int... entityIds);
+
     /**
      * Returns a packet that should spawn
      * a certain {@link LivingEntity}.
@@ -235,6 +538,93 @@ public interface INMSHandler {
      */
     Object getSpawnPacket(LivingEntity livingEntity);
 
+    /**
+     * Returns a packet that holds the entire metadata
+     * of a certain {@link LivingEntity} (custom name, flags
+     * and so on). Newer versions of the game don't send the
+     * metadata along with the spawn packet anymore, so make
+     * sure to send this one right after it.
+     * Doesn't send it to the player; make sure to use
+     * the method {@link #sendPacket(Player, Object)} to
+     * send it as well.
+     * @param livingEntity The {@link LivingEntity} whose metadata
+     *                     shall be sent.
+     * @return {@link Object}
+     */
+    Object getMetadataPacket(LivingEntity livingEntity);
+
+    /**
+     * Moves a fake armor stand, server-side only.
+     * Use {@link #getTeleportPacket(LivingEntity)}
+     * to send the change.
+     * @param livingEntity The armor stand.
+     * @param x The new X coordinate.
+     * @param y The new Y coordinate.
+     * @param z The new Z coordinate.
+     */
+    void setLocation(LivingEntity livingEntity, double x, double y, double z);
+
+    /**
+     * Returns the actual height of the bounding
+     * box of a certain {@link Entity}, as the server
+     * sees it. Takes size and age into account.
+     * @param entity The entity to measure.
+     * @return {@link Double}
+     */
+    double getHeight(Entity entity);
+
+    /**
+     * Returns the vertical gap between two
+     * consecutive lines of a Name Tag or hologram.
+     * @return {@link Double}
+     */
+    double getLineGap();
+
+    /**
+     * Returns the current tick
+     * of the server.
+     * @return {@link Integer}
+     */
+    int getCurrentTick();
+
+    /**
+     * Changes the custom name of a fake armor stand,
+     * server-side only. Use {@link #getMetadataPacket(LivingEntity)}
+     * to send the change.
+     * @param livingEntity The armor stand.
+     * @param text The text, color codes already translated.
+     */
+    void setCustomName(LivingEntity livingEntity, String text);
+
+    /**
+     * Compiles translated text into the very object a custom
+     * name is stored as on this version: a {@link String} before
+     * 1.13, a chat component afterwards. Equal texts share a single
+     * compiled name. Compile text once and reuse it through
+     * {@link #setCompiledName(LivingEntity, Object)}.
+     * @param text The text, color codes already translated.
+     * @return {@link Object}
+     */
+    Object compileName(String text);
+
+    /**
+     * Changes the custom name of a fake armor stand to
+     * a name compiled by {@link #compileName(String)},
+     * server-side only.
+     * @param livingEntity The armor stand.
+     * @param name The compiled name.
+     */
+    void setCompiledName(LivingEntity livingEntity, Object name);
+
+    /**
+     * Returns the compiled name a fake armor stand
+     * currently holds, comparable to the ones returned
+     * by {@link #compileName(String)}.
+     * @param livingEntity The armor stand.
+     * @return {@link Object}
+     */
+    Object getCompiledName(LivingEntity livingEntity);
+
     /**
      * Returns a packet that should teleport
      * a certain {@link LivingEntity}.
@@ -258,7 +648,8 @@ public interface INMSHandler {
      * @param player Player to have the fake {@link org.bukkit.entity.ArmorStand} packet
      *               displayed to him.
      * @param tag The {@link ArmorStand#getCustomName()} which the fake
-     *            entity will have when displaying the said packet.
+     *            entity will have when displaying the said packet,
+     *            with its color codes already translated.
      * @param location Location at which the entity
      *                 shall be displayed.
      * @param y Parameter which fixes the y-axis hitbox, in case
@@ -269,6 +660,21 @@ public interface INMSHandler {
      */
     Object getEntityArmorStand(Player player, String tag, Location location, double y);
 
+    /**
+     * Utility method designed to give us a fake {@link org.bukkit.entity.ArmorStand}
+     * entity placed exactly at the desired {@link Location}, in
+     * the location's own world. Unlike {@link #getEntityArmorStand(Player, String, Location, double)},
+     * the armor stand isn't bound to any player's world, which is what
+     * static holograms rely on.
+     * @param tag The {@link ArmorStand#getCustomName()} which the fake
+     *            entity will have when displaying the said packet,
+     *            with its color codes already translated.
+     * @param location Location at which the entity
+     *                 shall be displayed.
+     * @return {@link EntityArmorStand}
+     */
+    Object getEntityArmorStand(String tag, Location location);
+
     /**
      * Converts an EntityArmorStand, which is an
      * NMS object, into a {@link LivingEntity}.
@@ -25,11 +25,21 @@ SOFTWARE..
 
 package by.thmihnea;
 
-import by.thmihnea.cache.CacheManager;
-import by.thmihnea.cache.EntityIDCacheManager;
-import by.thmihnea.cache.LineCacheManager;
+import by.thmihnea.cache.AnimatedLineManager;
+import by.thmihnea.cache.ClusterManager;
+import by.thmihnea.cache.DynamicLineManager;
+import by.thmihnea.cache.HealthBarManager;
+import by.thmihnea.cache.LocaleManager;
+import by.thmihnea.cache.TagCommandManager;
+import by.thmihnea.listener.EntityHealthListener;
 import by.thmihnea.listener.PlayerJoinListener;
+import by.thmihnea.listener.PlayerLocaleListener;
 import by.thmihnea.listener.PlayerQuitListener;
+import by.thmihnea.runnable.ClusterTask;
+import by.thmihnea.runnable.DynamicLineTask;
+import by.thmihnea.runnable.RegistrySweepTask;
+import by.thmihnea.runnable.TagCommandTask;
+import by.thmihnea.runnable.TransientTextTask;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Listener;
 
@@ -57,7 +67,8 @@ public class NameTagAPI extends AbstractPlugin {
      */
     private final List<Listener> listeners = Arrays.asList(
             new PlayerJoinListener(),
-            new PlayerQuitListener()
+            new PlayerQuitListener(),
+            new EntityHealthListener()
     );
 
     /**
@@ -86,6 +97,36 @@ public class NameTagAPI extends AbstractPlugin {
      */
     private static NameTagAPI instance;
 
+    /**
+     * The task driving the expiry of
+     * every piece of transient text.
+     */
+    private TransientTextTask transientTextTask;
+
+    /**
+     * The task re-computing clusters
+     * of tagged entities.
+     */
+    private ClusterTask clusterTask;
+
+    /**
+     * The task sweeping stale entries
+     * out of the Name Tag registry.
+     */
+    private RegistrySweepTask registrySweepTask;
+
+    /**
+     * The task running every Name Tag operation
+     * issued off the main thread.
+     */
+    private TagCommandTask tagCommandTask;
+
+    /**
+     * The task refreshing every line
+     * bound to a supplier.
+     */
+    private DynamicLineTask dynamicLineTask;
+
     /**
      * Returns the instance of our main class.
      * @return {@link NameTagAPI}
@@ -103,8 +144,10 @@ public class NameTagAPI extends AbstractPlugin {
         this.setupTime();
         this.setupInstance();
         this.registerEvents(this.listeners);
+        this.registerEventIf(new PlayerLocaleListener(), LocaleManager.isLocaleEventSupported());
         this.initModules();
         this.setupPipelineMonitoring();
+        this.setupTasks();
         this.logInfo("The NameTagAPI has been successfully initialized. Initialization took a total of: " + (System.currentTimeMillis() - this.timeEnabled) + "ms");
     }
 
@@ -114,6 +157,21 @@ public class NameTagAPI extends AbstractPlugin {
      */
     @Override
     protected void stop() {
+        if (this.transientTextTask != null)
+            this.transientTextTask.clear();
+        if (this.clusterTask != null)
+            this.clusterTask.clear();
+        ClusterManager.disable();
+        if (this.registrySweepTask != null)
+            this.registrySweepTask.clear();
+        if (this.tagCommandTask != null)
+            this.tagCommandTask.clear();
+        TagCommandManager.clear();
+        if (this.dynamicLineTask != null)
+            this.dynamicLineTask.clear();
+        DynamicLineManager.clear();
+        HealthBarManager.clear();
+        AnimatedLineManager.clear();
         this.logInfo("The NameTagAPI has been successfully disabled. Goodbye!");
     }
 
@@ -166,6 +224,19 @@ public class NameTagAPI extends AbstractPlugin {
         });
     }
 
+    /**
+     * Starts the tasks which are shared
+     * by every single Name Tag, instead of
+     * running once per Name Tag.
+     */
+    private void setupTasks() {
+        this.transientTextTask = new TransientTextTask();
+        this.clusterTask = new ClusterTask();
+        this.registrySweepTask = new RegistrySweepTask();
+        this.tagCommandTask = new TagCommandTask();
+        this.dynamicLineTask = new DynamicLineTask();
+    }
+
     /**
      * Returns the NMS version which
      * the server is currently running on.
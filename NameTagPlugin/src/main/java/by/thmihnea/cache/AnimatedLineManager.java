@@ -0,0 +1,113 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.tag.AnimatedLine;
+import by.thmihnea.tag.TagLines;
+import org.bukkit.entity.Entity;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AnimatedLineManager {
+
+    /**
+     * Every animated line, pointed at by a key made
+     * out of the entity id and the line number.
+     */
+    private static final Map<Long, AnimatedLine> lines = new ConcurrentHashMap<>();
+
+    /**
+     * Animates a line of an entity's Name Tag, replacing any
+     * previous animation of the same line. The frames are
+     * compiled right away, once.
+     * @param entity The entity holding the line.
+     * @param line The line number.
+     * @param frames The raw text of each frame.
+     * @param interval How long, in ticks, each
+     *                 frame is shown for.
+     */
+    public static void animate(Entity entity, int line, List<String> frames, int interval) {
+        AnimatedLine animatedLine = new AnimatedLine(NameTagAPI.getNMSHandler(), entity, line, frames, interval);
+        lines.put(TagLines.getKey(entity.getEntityId(), line), animatedLine);
+    }
+
+    /**
+     * Stops the animation of a line of an entity's
+     * Name Tag, leaving the current frame shown.
+     * @param entity The entity holding the line.
+     * @param line The line number.
+     */
+    public static void stop(Entity entity, int line) {
+        lines.remove(TagLines.getKey(entity.getEntityId(), line));
+    }
+
+    /**
+     * Stops every animation of an entity. Called by the
+     * {@link TagRegistry} once the entity's Name Tag is
+     * gone, so that a Name Tag set later on doesn't get
+     * its lines overwritten by stale animations.
+     * @param entityId The entity id.
+     */
+    public static void stopAll(int entityId) {
+        if (lines.isEmpty()) return;
+        lines.keySet().removeIf(key -> TagLines.getEntityId(key) == entityId);
+    }
+
+    /**
+     * Advances every animation by a tick, dropping
+     * the ones whose entity is gone.
+     * Called by the {@link by.thmihnea.runnable.DynamicLineTask}.
+     */
+    public static void tick() {
+        if (lines.isEmpty()) return;
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        Iterator<AnimatedLine> iterator = lines.values().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().tick(handler)) iterator.remove();
+        }
+    }
+
+    /**
+     * Stops every animation.
+     */
+    public static void clear() {
+        lines.clear();
+    }
+
+    /**
+     * Returns the amount of
+     * animated lines.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        return lines.size();
+    }
+}
@@ -0,0 +1,235 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.cluster.AggregateTag;
+import by.thmihnea.cluster.Cluster;
+import by.thmihnea.cluster.ClusterKey;
+import by.thmihnea.tag.TagTemplate;
+import by.thmihnea.util.IntList;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+public class ClusterManager {
+
+    /**
+     * Format of the aggregate tag, filled in
+     * with the entity type and the amount of
+     * entities in the cluster.
+     */
+    public static final String LABEL_FORMAT = "&e%s &7\u00d7%d";
+
+    /**
+     * The label of each entity type, compiled once out of
+     * {@link #LABEL_FORMAT} with the amount of entities left
+     * as a numeric slot.
+     */
+    private static final Map<EntityType, TagTemplate> labels = new EnumMap<>(EntityType.class);
+
+    /**
+     * Whether or not clustering is
+     * currently enabled.
+     */
+    private static boolean enabled;
+
+    /**
+     * Size of a grid cell, in blocks.
+     */
+    private static double cellSize;
+
+    /**
+     * Minimum number of tagged entities of the same type
+     * which have to share a grid cell in order to be aggregated.
+     */
+    private static int threshold;
+
+    /**
+     * Squared distance past which players see the
+     * aggregate tag instead of the individual ones.
+     */
+    private static double distanceSquared;
+
+    /**
+     * Every aggregate tag which is currently displayed, per
+     * player and per cluster. Players are pointed at by their
+     * unique id, so that no player is kept reachable.
+     */
+    private static final Map<UUID, Map<ClusterKey, AggregateTag>> aggregates = new HashMap<>();
+
+    /**
+     * Enables clustering. Tagged entities are grouped in a grid,
+     * and whenever at least {@code threshold} entities of the same type
+     * share a cell, players further away than {@code distance} see a
+     * single aggregate tag instead of every individual one.
+     * @param cellSize Size of a grid cell, in blocks.
+     * @param threshold Minimum number of entities of a cluster.
+     * @param distance Distance past which players see the
+     *                 aggregate tag.
+     */
+    public static void enable(double cellSize, int threshold, double distance) {
+        if (cellSize <= 0) throw new IllegalArgumentException("The cell size must be positive, got " + cellSize + ".");
+        ClusterManager.cellSize = cellSize;
+        ClusterManager.threshold = Math.max(2, threshold);
+        ClusterManager.distanceSquared = distance * distance;
+        ClusterManager.enabled = true;
+    }
+
+    /**
+     * Disables clustering, removing every aggregate
+     * tag and showing back every individual Name Tag.
+     */
+    public static void disable() {
+        enabled = false;
+        aggregates.values().forEach(map -> map.values().forEach(AggregateTag::remove));
+        aggregates.clear();
+    }
+
+    /**
+     * Returns whether or not clustering
+     * is currently enabled.
+     * @return {@link Boolean}
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Re-computes every cluster and updates the aggregate
+     * tags of each player accordingly. Run periodically by the
+     * {@link by.thmihnea.runnable.ClusterTask}, not every tick.
+     * Members of a cluster get their armor stands destroyed for
+     * far away players, with a single packet per player, and
+     * spawned back once they leave the cluster. Restoring always
+     * happens before hiding, so that an entity which moved from
+     * one cluster to another ends up hidden.
+     */
+    public static void update() {
+        if (!enabled) return;
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+
+        Map<ClusterKey, Cluster> clusters = new HashMap<>();
+        TagRegistry.forEachHost(host -> {
+            Entity entity = host.getEntity();
+            if (entity == null || entity.isDead()) return;
+            Location location = entity.getLocation();
+            int x = (int) Math.floor(location.getX() / cellSize);
+            int z = (int) Math.floor(location.getZ() / cellSize);
+            ClusterKey key = new ClusterKey(location.getWorld().getUID(), x, z, entity.getType());
+            clusters.computeIfAbsent(key, k -> new Cluster(k, location.getWorld())).add(entity, location);
+        });
+
+        Map<Player, Map<ClusterKey, Cluster>> shown = new HashMap<>();
+        for (Cluster cluster : clusters.values()) {
+            if (cluster.size() < threshold) continue;
+            Location center = cluster.getCenter();
+            Set<Player> viewers = new HashSet<>();
+            cluster.getMembers().forEach(member -> viewers.addAll(TagRegistry.getViewers(member)));
+
+            for (Player viewer : viewers) {
+                if (!viewer.isOnline() || !viewer.getWorld().equals(center.getWorld())) continue;
+                if (viewer.getLocation().distanceSquared(center) <= distanceSquared) continue;
+                shown.computeIfAbsent(viewer, p -> new HashMap<>()).put(cluster.getKey(), cluster);
+            }
+        }
+
+        Iterator<Map.Entry<UUID, Map<ClusterKey, AggregateTag>>> iterator = aggregates.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Map<ClusterKey, AggregateTag>> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null || !player.isOnline()) {
+                iterator.remove();
+                continue;
+            }
+            Map<ClusterKey, Cluster> current = shown.getOrDefault(player, Collections.emptyMap());
+            entry.getValue().entrySet().removeIf(tag -> {
+                Cluster cluster = current.get(tag.getKey());
+                if (cluster == null) {
+                    tag.getValue().remove();
+                    return true;
+                }
+                tag.getValue().restoreExcept(cluster.getMembers());
+                return false;
+            });
+            if (entry.getValue().isEmpty()) iterator.remove();
+        }
+
+        IntList destroyed = new IntList();
+        shown.forEach((viewer, current) -> {
+            Map<ClusterKey, AggregateTag> tags = aggregates.computeIfAbsent(viewer.getUniqueId(), u -> new HashMap<>());
+            current.forEach((key, cluster) -> {
+                Location labelLocation = cluster.getCenter().add(0, TagOffsetManager.getOffsetY(cluster.getMembers().get(0)), 0);
+                String label = getLabel(key.getType(), cluster.size());
+                AggregateTag tag = tags.get(key);
+                if (tag == null) {
+                    tag = new AggregateTag(viewer, labelLocation, label);
+                    tags.put(key, tag);
+                } else {
+                    tag.update(labelLocation, label);
+                }
+                tag.hide(cluster.getMembers(), destroyed);
+            });
+            if (destroyed.isEmpty()) return;
+            handler.sendPacket(viewer, handler.getDestroyPacket(destroyed.toArray()));
+            destroyed.clear();
+        });
+    }
+
+    /**
+     * Renders the aggregate label of a cluster.
+     * The template of each type is compiled once, so only
+     * the amount of entities is written on each update.
+     * @param type The entity type.
+     * @param size The amount of entities in the cluster.
+     * @return {@link String}
+     */
+    private static String getLabel(EntityType type, int size) {
+        TagTemplate template = labels.computeIfAbsent(type, t ->
+                TagTemplate.compile(LABEL_FORMAT.replace("%s", getDisplayName(t)).replace("%d", "{size}")));
+        return template.set(0, size).render();
+    }
+
+    /**
+     * Turns an {@link EntityType} into a readable
+     * name, e.g. MUSHROOM_COW into Mushroom Cow.
+     * @param type The entity type.
+     * @return {@link String}
+     */
+    private static String getDisplayName(EntityType type) {
+        StringBuilder builder = new StringBuilder();
+        for (String word : type.name().split("_")) {
+            if (builder.length() > 0) builder.append(' ');
+            builder.append(word.charAt(0)).append(word.substring(1).toLowerCase());
+        }
+        return builder.toString();
+    }
+}
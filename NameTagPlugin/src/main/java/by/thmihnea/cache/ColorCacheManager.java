@@ -0,0 +1,126 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.util.LruCache;
+import org.bukkit.ChatColor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class ColorCacheManager {
+
+    /**
+     * The maximum amount of texts we
+     * keep translated at once.
+     */
+    public static final int CACHE_SIZE = 1024;
+
+    /**
+     * Our interning table. Points each raw text at its
+     * translated (color coded) form. Equal texts share
+     * a single translated instance, which also keeps the
+     * per-version component caches small.
+     */
+    private static final LruCache<String, String> texts = new LruCache<>(CACHE_SIZE);
+
+    /**
+     * Every lookup, whether or not it found
+     * its text already translated.
+     */
+    private static final LongAdder lookups = new LongAdder();
+
+    /**
+     * Lookups which had to translate
+     * their text.
+     */
+    private static final LongAdder misses = new LongAdder();
+
+    /**
+     * Translates the '&' color codes of a text, pulling
+     * the result from our table whenever the same text has
+     * already been translated. The lookup and the insertion
+     * happen atomically. Safe to call from any thread.
+     * Translate a text once, where it enters the API, and
+     * pass the translated text along from there on.
+     * @param text The raw text.
+     * @return {@link String}
+     */
+    public static String translate(String text) {
+        lookups.increment();
+        return texts.get(text, raw -> {
+            misses.increment();
+            return ChatColor.translateAlternateColorCodes('&', raw);
+        });
+    }
+
+    /**
+     * Returns the amount of lookups which found
+     * their text already translated.
+     * @return {@link Long}
+     */
+    public static long getHits() {
+        return lookups.sum() - misses.sum();
+    }
+
+    /**
+     * Returns the amount of lookups
+     * which had to translate their text.
+     * @return {@link Long}
+     */
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the share of lookups which found their
+     * text already translated, between 0 and 1.
+     * @return {@link Double}
+     */
+    public static double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the amount of
+     * translated texts we hold.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        return texts.size();
+    }
+
+    /**
+     * Forgets every translated text
+     * and resets the metrics.
+     */
+    public static void clear() {
+        texts.clear();
+        lookups.reset();
+        misses.reset();
+    }
+}
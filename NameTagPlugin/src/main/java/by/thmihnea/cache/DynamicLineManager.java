@@ -0,0 +1,114 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.tag.DynamicLine;
+import by.thmihnea.tag.TagLines;
+import org.bukkit.entity.Entity;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class DynamicLineManager {
+
+    /**
+     * Every line bound to a supplier, pointed at by a
+     * key made out of the entity id and the line number.
+     * Lines may be bound from any thread, while only
+     * the main thread evaluates them.
+     */
+    private static final Map<Long, DynamicLine> lines = new ConcurrentHashMap<>();
+
+    /**
+     * Binds a line of an entity's Name Tag to a supplier,
+     * replacing any previous binding of the same line.
+     * @param entity The entity holding the line.
+     * @param line The line number.
+     * @param supplier Supplies the raw text of the line.
+     *                 Evaluated on the main thread.
+     * @param period How often, in ticks, the supplier
+     *               should be evaluated.
+     */
+    public static void bind(Entity entity, int line, Supplier<String> supplier, int period) {
+        lines.put(TagLines.getKey(entity.getEntityId(), line), new DynamicLine(entity, line, supplier, period));
+    }
+
+    /**
+     * Unbinds a line of an entity's Name Tag. The line
+     * keeps showing the last text it has been sent.
+     * @param entity The entity holding the line.
+     * @param line The line number.
+     */
+    public static void unbind(Entity entity, int line) {
+        lines.remove(TagLines.getKey(entity.getEntityId(), line));
+    }
+
+    /**
+     * Unbinds every line of an entity. Called by the
+     * {@link TagRegistry} once the entity's Name Tag is
+     * gone, so that a Name Tag set later on doesn't get
+     * its lines overwritten by stale bindings.
+     * @param entityId The entity id.
+     */
+    public static void unbindAll(int entityId) {
+        if (lines.isEmpty()) return;
+        lines.keySet().removeIf(key -> TagLines.getEntityId(key) == entityId);
+    }
+
+    /**
+     * Advances every bound line by a tick, dropping
+     * the ones whose entity is gone.
+     * Called by the {@link by.thmihnea.runnable.DynamicLineTask}.
+     */
+    public static void tick() {
+        if (lines.isEmpty()) return;
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        Iterator<DynamicLine> iterator = lines.values().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().tick(handler)) iterator.remove();
+        }
+    }
+
+    /**
+     * Unbinds every line.
+     */
+    public static void clear() {
+        lines.clear();
+    }
+
+    /**
+     * Returns the amount of
+     * bound lines.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        return lines.size();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.tag.HealthBar;
+import org.bukkit.Chunk;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class HealthBarManager {
+
+    /**
+     * Every health bar, pointed at by the
+     * entity id of the entity it belongs to.
+     */
+    private static final Map<Integer, HealthBar> healthBars = new ConcurrentHashMap<>();
+
+    /**
+     * The health bars whose entity's health has changed
+     * since the last flush. Being a set, any amount of
+     * changes within a tick collapses into a single update.
+     */
+    private static final Set<HealthBar> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Binds a line of an entity's Name Tag to its health,
+     * replacing any previous health bar of the entity.
+     * The line is sent once right away and afterwards only
+     * whenever the entity gets damaged or healed.
+     * @param entity The entity whose health is shown.
+     * @param line The line number.
+     * @param format The format of the line, or null
+     *               for {@link HealthBar#DEFAULT_FORMAT}.
+     */
+    public static void bind(LivingEntity entity, int line, String format) {
+        HealthBar healthBar = new HealthBar(entity, line, format);
+        HealthBar previous = healthBars.put(entity.getEntityId(), healthBar);
+        if (previous != null) dirty.remove(previous);
+        dirty.add(healthBar);
+    }
+
+    /**
+     * Unbinds the health bar of an entity. The line
+     * keeps showing the last text it has been sent.
+     * @param entity The entity.
+     */
+    public static void unbind(Entity entity) {
+        unbind(entity.getEntityId());
+    }
+
+    /**
+     * Unbinds the health bar of an entity, by its id.
+     * Called by the {@link TagRegistry} as well, once the
+     * entity's Name Tag is gone, so that a Name Tag set later
+     * on doesn't get its line overwritten by a stale bar.
+     * @param entityId The entity id.
+     */
+    public static void unbind(int entityId) {
+        if (healthBars.isEmpty()) return;
+        HealthBar healthBar = healthBars.remove(entityId);
+        if (healthBar != null) dirty.remove(healthBar);
+    }
+
+    /**
+     * Unbinds the health bars of every entity inside of
+     * a chunk which is about to unload, as unloaded
+     * entities never fire another health event.
+     * @param chunk The chunk being unloaded.
+     */
+    public static void unbindChunk(Chunk chunk) {
+        if (healthBars.isEmpty()) return;
+        for (Entity entity : chunk.getEntities())
+            unbind(entity);
+    }
+
+    /**
+     * Flags an entity's health bar for an update on the
+     * next flush. Entities without a health bar are ignored,
+     * so calling this for every damaged entity is cheap.
+     * @param entity The entity whose health has changed.
+     */
+    public static void markDirty(Entity entity) {
+        if (healthBars.isEmpty()) return;
+        HealthBar healthBar = healthBars.get(entity.getEntityId());
+        if (healthBar != null) dirty.add(healthBar);
+    }
+
+    /**
+     * Updates every flagged health bar, at most once each.
+     * As health changes are only flagged during events and read
+     * here, the health sent is the one after the event applied.
+     * Called by the {@link by.thmihnea.runnable.DynamicLineTask}.
+     */
+    public static void flush() {
+        if (dirty.isEmpty()) return;
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        Iterator<HealthBar> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            HealthBar healthBar = iterator.next();
+            iterator.remove();
+            if (!healthBar.update(handler))
+                healthBars.values().remove(healthBar);
+        }
+    }
+
+    /**
+     * Drops every health bar whose entity is gone,
+     * catching whatever the death and unload
+     * events missed. Called by the
+     * {@link by.thmihnea.runnable.RegistrySweepTask}.
+     */
+    public static void sweep() {
+        Iterator<HealthBar> iterator = healthBars.values().iterator();
+        while (iterator.hasNext()) {
+            HealthBar healthBar = iterator.next();
+            if (healthBar.isValid()) continue;
+            iterator.remove();
+            dirty.remove(healthBar);
+        }
+    }
+
+    /**
+     * Unbinds every health bar.
+     */
+    public static void clear() {
+        healthBars.clear();
+        dirty.clear();
+    }
+
+    /**
+     * Returns the amount of
+     * health bars.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        return healthBars.size();
+    }
+}
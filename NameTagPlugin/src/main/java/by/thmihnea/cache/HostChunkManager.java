@@ -0,0 +1,229 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.tag.TagHost;
+import by.thmihnea.util.ChunkKey;
+import by.thmihnea.util.LongObjectMap;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public class HostChunkManager {
+
+    /**
+     * Our chunk index of tagged entities. Points each world
+     * to a map of packed chunk keys (see {@link ChunkKey}) and
+     * the tagged entities currently standing inside of that chunk.
+     */
+    private static final Map<UUID, LongObjectMap<List<TagHost>>> index = new HashMap<>();
+
+    /**
+     * Guards our chunk index. Hosts are added and removed
+     * along with their Name Tags, from any thread.
+     */
+    private static final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a tagged entity to our
+     * chunk index.
+     * @param host The tagged entity.
+     * @param location Its current location.
+     */
+    public static void add(TagHost host, Location location) {
+        lock.writeLock().lock();
+        try {
+            World world = location.getWorld();
+            if (world == null) return;
+            long key = ChunkKey.of(location);
+            LongObjectMap<List<TagHost>> chunks = index.computeIfAbsent(world.getUID(), uuid -> new LongObjectMap<>());
+            List<TagHost> hosts = chunks.get(key);
+            if (hosts == null) chunks.put(key, hosts = new ArrayList<>(2));
+            hosts.add(host);
+            host.setChunk(world.getUID(), key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a tagged entity from
+     * our chunk index.
+     * @param host The tagged entity.
+     */
+    public static void remove(TagHost host) {
+        lock.writeLock().lock();
+        try {
+            UUID worldId = host.getWorldId();
+            if (worldId == null) return;
+            LongObjectMap<List<TagHost>> chunks = index.get(worldId);
+            if (chunks != null) {
+                List<TagHost> hosts = chunks.get(host.getChunkKey());
+                if (hosts != null) {
+                    hosts.remove(host);
+                    if (hosts.isEmpty()) chunks.remove(host.getChunkKey());
+                }
+                if (chunks.isEmpty()) index.remove(worldId);
+            }
+            host.setChunk(null, 0L);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves a tagged entity to another chunk, if it has
+     * crossed a chunk border. Whenever it didn't, this costs
+     * only a comparison against the chunk the host remembers,
+     * without taking any lock, so it's fine to call every tick.
+     * The write lock is only taken on an actual move.
+     * @param host The tagged entity.
+     * @param location Its current location.
+     */
+    public static void update(TagHost host, Location location) {
+        World world = location.getWorld();
+        if (world == null) return;
+        long key = ChunkKey.of(location);
+        UUID worldId = world.getUID();
+        if (isIndexedAt(host, worldId, key)) return;
+
+        lock.writeLock().lock();
+        try {
+            if (isIndexedAt(host, worldId, key)) return;
+            remove(host);
+            add(host, location);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tells us whether or not a host is currently
+     * indexed under a certain chunk.
+     * @param host The tagged entity.
+     * @param worldId The world of the chunk.
+     * @param key The packed chunk key.
+     * @return {@link Boolean}
+     */
+    private static boolean isIndexedAt(TagHost host, UUID worldId, long key) {
+        return host.getChunkKey() == key && worldId.equals(host.getWorldId());
+    }
+
+    /**
+     * Returns a snapshot of every tagged entity
+     * currently standing inside of a certain chunk.
+     * @param world The world of the chunk.
+     * @param key The packed chunk key.
+     * @return {@link List<TagHost>}
+     */
+    public static List<TagHost> getHosts(World world, long key) {
+        lock.readLock().lock();
+        try {
+            LongObjectMap<List<TagHost>> chunks = index.get(world.getUID());
+            if (chunks == null) return Collections.emptyList();
+            List<TagHost> hosts = chunks.get(key);
+            return hosts == null ? Collections.emptyList() : new ArrayList<>(hosts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Calls the consumer for every tagged entity standing
+     * within a certain radius of chunks around a location.
+     * Only the chunks inside of that square are visited, so the
+     * cost is proportional to the area rather than to the
+     * amount of tagged entities.
+     * The consumer runs over a snapshot, outside of the
+     * lock, so it may freely add or remove Name Tags.
+     * @param location The center of the query.
+     * @param radius The radius, in chunks.
+     * @param consumer The consumer.
+     */
+    public static void forEachNear(Location location, int radius, Consumer<TagHost> consumer) {
+        World world = location.getWorld();
+        if (world == null) return;
+        List<TagHost> nearby = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            LongObjectMap<List<TagHost>> chunks = index.get(world.getUID());
+            if (chunks == null) return;
+            int centerX = location.getBlockX() >> 4;
+            int centerZ = location.getBlockZ() >> 4;
+            for (int x = centerX - radius; x <= centerX + radius; x++) {
+                for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                    List<TagHost> hosts = chunks.get(ChunkKey.pack(x, z));
+                    if (hosts != null) nearby.addAll(hosts);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        nearby.forEach(consumer);
+    }
+
+    /**
+     * Returns every tagged entity standing within
+     * a certain radius of chunks around a location.
+     * @param location The center of the query.
+     * @param radius The radius, in chunks.
+     * @return {@link List<Entity>}
+     */
+    public static List<Entity> getNearby(Location location, int radius) {
+        List<Entity> entities = new ArrayList<>();
+        forEachNear(location, radius, host -> {
+            Entity entity = host.getEntity();
+            if (entity != null) entities.add(entity);
+        });
+        return entities;
+    }
+
+    /**
+     * Returns the amount of chunks which
+     * currently hold at least a tagged entity.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        lock.readLock().lock();
+        try {
+            int size = 0;
+            for (LongObjectMap<List<TagHost>> chunks : index.values())
+                size += chunks.size();
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
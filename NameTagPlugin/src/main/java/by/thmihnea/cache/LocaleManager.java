@@ -0,0 +1,178 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.tag.TagHost;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class LocaleManager {
+
+    /**
+     * The locale whose variant is shown to players
+     * for whose own locale no variant was given.
+     */
+    public static final String DEFAULT_LOCALE = "en_us";
+
+    /**
+     * The locale getter of {@link Player.Spigot}, looked up once
+     * and only used on servers older than 1.12, which don't have
+     * {@link Player#getLocale()} yet. Null on newer servers.
+     */
+    private static final Method LEGACY_GETTER = getLegacyGetter();
+
+    /**
+     * Returns the client locale of a player, lower-cased,
+     * so that e.g. "en_US" and "en_us" are the same locale.
+     * @param player The player.
+     * @return {@link String}
+     */
+    public static String getLocale(Player player) {
+        String locale;
+        if (LEGACY_GETTER == null) {
+            locale = player.getLocale();
+        } else {
+            try {
+                locale = (String) LEGACY_GETTER.invoke(player.spigot());
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                locale = null;
+            }
+        }
+        return locale == null ? DEFAULT_LOCALE : locale.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Keeps the variants of a localized Name Tag with its
+     * entity, until the Name Tag is deleted, so that they can
+     * be resolved again once a viewer's locale changes.
+     * @param entity The entity holding the Name Tag.
+     * @param variants The variants, pointed at by
+     *                 their lower-case locale.
+     */
+    public static void setVariants(Entity entity, Map<String, String> variants) {
+        TagHost host = TagRegistry.getHost(entity);
+        if (host != null) host.setVariants(new HashMap<>(variants));
+    }
+
+    /**
+     * Resolves every localized Name Tag a player can see
+     * again, for the player's new locale. Only line number 0
+     * is touched, and only when the resolved variant differs
+     * from the one currently shown.
+     * @param player The player.
+     * @param locale The new client locale.
+     */
+    public static void handleLocaleChange(Player player, String locale) {
+        String lowerCase = locale == null ? DEFAULT_LOCALE : locale.toLowerCase(Locale.ROOT);
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        for (Entity entity : TagRegistry.getVisibleEntities(player)) {
+            TagHost host = TagRegistry.getHost(entity);
+            Map<String, String> variants = host == null ? null : host.getVariants();
+            if (variants == null) continue;
+            String tag = resolve(variants, lowerCase);
+            if (tag != null) handler.setLine(player, entity, 0, tag);
+        }
+    }
+
+    /**
+     * Returns whether or not the server fires a
+     * PlayerLocaleChangeEvent carrying the new locale,
+     * which is the case from 1.12 onwards.
+     * @return {@link Boolean}
+     */
+    public static boolean isLocaleEventSupported() {
+        try {
+            Class.forName("org.bukkit.event.player.PlayerLocaleChangeEvent").getMethod("getLocale");
+            return true;
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Groups a {@link Collection} of players by
+     * their client locale.
+     * @param players The players.
+     * @return {@link Map}
+     */
+    public static Map<String, List<Player>> groupByLocale(Collection<? extends Player> players) {
+        Map<String, List<Player>> groups = new HashMap<>();
+        for (Player player : players)
+            groups.computeIfAbsent(getLocale(player), locale -> new ArrayList<>()).add(player);
+        return groups;
+    }
+
+    /**
+     * Picks the variant of a text matching a locale. The exact
+     * locale is tried first, then its language alone (so "de"
+     * covers both "de_de" and "de_at") and lastly the
+     * {@link #DEFAULT_LOCALE}.
+     * @param variants The variants, pointed at by
+     *                 their lower-case locale.
+     * @param locale The lower-case locale.
+     * @return {@link String} The variant, or null
+     *         if none matches.
+     */
+    public static String resolve(Map<String, String> variants, String locale) {
+        String text = variants.get(locale);
+        if (text != null) return text;
+        int separator = locale.indexOf('_');
+        if (separator != -1) {
+            text = variants.get(locale.substring(0, separator));
+            if (text != null) return text;
+        }
+        return variants.get(DEFAULT_LOCALE);
+    }
+
+    /**
+     * Looks up the locale getter of {@link Player.Spigot},
+     * if {@link Player#getLocale()} isn't available.
+     * @return {@link Method}
+     */
+    private static Method getLegacyGetter() {
+        try {
+            Player.class.getMethod("getLocale");
+            return null;
+        } catch (NoSuchMethodException e) {
+            try {
+                return Player.Spigot.class.getMethod("getLocale");
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+        }
+    }
+}
@@ -26,10 +26,11 @@ SOFTWARE..
 package by.thmihnea.cache;
 
 import by.thmihnea.runnable.PacketUpdateTask;
+import by.thmihnea.util.IntObjectMap;
 import org.bukkit.entity.LivingEntity;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 public class PacketUpdateTaskManager {
 
@@ -40,9 +41,17 @@ public class PacketUpdateTaskManager {
      * This is for easy access when dealing with multi line
      * deletion so that we can re-set armor stand locations while
      * deleting their {@link PacketUpdateTask} objects, and re-instantiating
-     * them.,
+     * them.
+     * Keyed by the primitive armor stand id, so neither
+     * lookups nor removals box the id.
      */
-    private final static Map<Integer, PacketUpdateTask> cache = new HashMap<>();
+    private final static IntObjectMap<PacketUpdateTask> cache = new IntObjectMap<>();
+
+    /**
+     * Guards our map, so that tasks can be registered
+     * and looked up from any thread.
+     */
+    private static final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
     /**
      * Method which adds an entry to our
@@ -51,8 +60,13 @@ public class PacketUpdateTaskManager {
      * @param packetUpdateTask {@link PacketUpdateTask} object
      *                          to be added.
      */
-    public static void addEntry(Integer entityId, PacketUpdateTask packetUpdateTask) {
-        cache.put(entityId, packetUpdateTask);
+    public static void addEntry(int entityId, PacketUpdateTask packetUpdateTask) {
+        lock.writeLock().lock();
+        try {
+            cache.put(entityId, packetUpdateTask);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -63,7 +77,12 @@ public class PacketUpdateTaskManager {
      * @return {@link PacketUpdateTask}
      */
     public static PacketUpdateTask getFromEntityLiving(LivingEntity entityLiving) {
-        return cache.get(entityLiving.getEntityId());
+        lock.readLock().lock();
+        try {
+            return cache.get(entityLiving.getEntityId());
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -72,9 +91,33 @@ public class PacketUpdateTaskManager {
      *                     from our data structure, along with
      *                     all information regarding its
      *                     {@link PacketUpdateTask} object.
+     * @return The removed {@link PacketUpdateTask}, or null
+     *         if the armor stand had none.
+     */
+    public static PacketUpdateTask removeEntry(LivingEntity entityLiving) {
+        lock.writeLock().lock();
+        try {
+            return cache.remove(entityLiving.getEntityId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a {@link PacketUpdateTask} from our data
+     * structure, but only if it's still the one registered
+     * for its armor stand. Checked and removed atomically.
+     * @param packetUpdateTask The task to be removed.
      */
-    public static void removeEntry(LivingEntity entityLiving) {
-        cache.remove(entityLiving.getEntityId());
+    public static void removeEntry(PacketUpdateTask packetUpdateTask) {
+        int entityId = packetUpdateTask.getEntityLiving().getEntityId();
+        lock.writeLock().lock();
+        try {
+            if (cache.get(entityId) == packetUpdateTask)
+                cache.remove(entityId);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -86,6 +129,42 @@ public class PacketUpdateTaskManager {
      * @return {@link PacketUpdateTask}
      */
     public static PacketUpdateTask getFromEntityId(int id) {
-        return cache.get(id);
+        lock.readLock().lock();
+        try {
+            return cache.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Walks every registered {@link PacketUpdateTask}
+     * directly over the backing table, without creating
+     * an iterator or a snapshot of the values.
+     * Runs under the read lock, so the consumer
+     * must not add or remove entries.
+     * @param consumer Action to run for each task.
+     */
+    public static void forEachTask(Consumer<? super PacketUpdateTask> consumer) {
+        lock.readLock().lock();
+        try {
+            cache.forEachValue(consumer);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the amount of tasks currently
+     * registered.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        lock.readLock().lock();
+        try {
+            return cache.size();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 }
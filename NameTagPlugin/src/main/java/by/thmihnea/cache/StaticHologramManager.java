@@ -0,0 +1,185 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.hologram.StaticHologram;
+import by.thmihnea.util.ChunkKey;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StaticHologramManager {
+
+    /**
+     * Our chunk index. Points each world to a map of
+     * packed chunk keys (see {@link ChunkKey}) and the static holograms
+     * placed inside of that chunk.
+     * This is being read from the io.netty threads whenever a chunk is
+     * sent to a player, which is why we're relying on concurrent
+     * structures here. Writes only happen on the main thread.
+     */
+    private static final Map<UUID, Map<Long, List<StaticHologram>>> index = new ConcurrentHashMap<>();
+
+    /**
+     * Every single static hologram, pointed at
+     * by its id.
+     */
+    private static final Map<Integer, StaticHologram> holograms = new ConcurrentHashMap<>();
+
+    /**
+     * Counter used for handing out
+     * hologram ids.
+     */
+    private static final AtomicInteger nextId = new AtomicInteger(0);
+
+    /**
+     * Creates a static hologram, adds it to our chunk
+     * index and sends it right away to every player which
+     * is currently tracking its chunk.
+     * @param location Location of the top line.
+     * @param lines The lines of the hologram, from
+     *              top to bottom.
+     * @return {@link Integer} The id of the new hologram.
+     */
+    public static int createHologram(Location location, List<String> lines) {
+        int id = nextId.incrementAndGet();
+        StaticHologram hologram = new StaticHologram(id, location, lines);
+        long key = ChunkKey.of(location);
+
+        holograms.put(id, hologram);
+        index.computeIfAbsent(location.getWorld().getUID(), uuid -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new CopyOnWriteArrayList<>())
+                .add(hologram);
+
+        int viewDistance = Bukkit.getViewDistance();
+        int chunkX = ChunkKey.getX(key);
+        int chunkZ = ChunkKey.getZ(key);
+        location.getWorld().getPlayers().forEach(player -> {
+            Location playerLocation = player.getLocation();
+            if (Math.abs((playerLocation.getBlockX() >> 4) - chunkX) > viewDistance) return;
+            if (Math.abs((playerLocation.getBlockZ() >> 4) - chunkZ) > viewDistance) return;
+            hologram.show(player);
+        });
+        return id;
+    }
+
+    /**
+     * Removes a static hologram from our index
+     * and destroys it for every player in its world.
+     * @param id The id of the hologram.
+     */
+    public static void deleteHologram(int id) {
+        StaticHologram hologram = holograms.remove(id);
+        if (hologram == null) return;
+
+        Map<Long, List<StaticHologram>> chunks = index.get(hologram.getWorld().getUID());
+        if (chunks != null) {
+            long key = ChunkKey.of(hologram.getLocation());
+            List<StaticHologram> list = chunks.get(key);
+            if (list != null) {
+                list.remove(hologram);
+                if (list.isEmpty()) chunks.remove(key);
+            }
+        }
+        hologram.getWorld().getPlayers().forEach(hologram::hide);
+    }
+
+    /**
+     * Returns a static hologram by
+     * its id.
+     * @param id The id to look up for.
+     * @return {@link StaticHologram}
+     */
+    public static StaticHologram getHologram(int id) {
+        return holograms.get(id);
+    }
+
+    /**
+     * Returns the static holograms placed inside
+     * of a certain chunk, or null if there aren't any.
+     * @param world World to look up for.
+     * @param key The packed chunk key.
+     * @return {@link List<StaticHologram>}
+     */
+    public static List<StaticHologram> getHolograms(World world, long key) {
+        Map<Long, List<StaticHologram>> chunks = index.get(world.getUID());
+        if (chunks == null) return null;
+        return chunks.get(key);
+    }
+
+    /**
+     * Tells us whether or not a chunk holds static
+     * holograms in any world. Only reads our own index,
+     * so it's safe to call off the main thread.
+     * @param key The packed chunk key.
+     * @return {@link Boolean}
+     */
+    private static boolean isIndexed(long key) {
+        for (Map<Long, List<StaticHologram>> chunks : index.values()) {
+            List<StaticHologram> list = chunks.get(key);
+            if (list != null && !list.isEmpty()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method called by each version's packet reader whenever
+     * a chunk is being sent to a player, which means the player
+     * has just started tracking it. This runs on the io.netty thread,
+     * where the Bukkit API must not be touched, so chunks without
+     * holograms in any world are dismissed by looking at our own
+     * index only. Resolving the player's world and the actual
+     * spawning are handed over to the main thread, after the
+     * chunk itself has reached the client.
+     * @param player Player which is receiving the chunk.
+     * @param x Chunk X coordinate.
+     * @param z Chunk Z coordinate.
+     */
+    public static void handleChunkSent(Player player, int x, int z) {
+        if (holograms.isEmpty()) return;
+        long key = ChunkKey.pack(x, z);
+        if (!isIndexed(key)) return;
+
+        Bukkit.getScheduler().runTask(NameTagAPI.getInstance(), () -> {
+            if (!player.isOnline()) return;
+            List<StaticHologram> list = getHolograms(player.getWorld(), key);
+            if (list == null) return;
+            list.forEach(hologram -> {
+                if (!hologram.getWorld().equals(player.getWorld())) return;
+                hologram.show(player);
+            });
+        });
+    }
+}
@@ -0,0 +1,120 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.command.TagCommand;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class TagCommandManager {
+
+    /**
+     * Every Name Tag operation issued off the main thread,
+     * waiting for the next tick. Any thread may offer to this
+     * lock-free queue, while only the main thread polls it.
+     */
+    private static final Queue<TagCommand> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The batch of commands drained during a tick, in
+     * order. Superseded commands are left as null.
+     * Re-used from one tick to another.
+     */
+    private static final List<TagCommand> batch = new ArrayList<>();
+
+    /**
+     * Position inside of {@link #batch} of the last command
+     * for each Name Tag, pointed at by its tag key.
+     * Re-used from one tick to another.
+     */
+    private static final Map<Long, Integer> last = new HashMap<>();
+
+    /**
+     * Queues an operation, to be run on the main
+     * thread during the next tick. Safe to call
+     * from any thread.
+     * @param command The operation.
+     */
+    public static void enqueue(TagCommand command) {
+        queue.offer(command);
+    }
+
+    /**
+     * Runs every queued operation, in order. An operation which
+     * only overwrites the result of the one queued right before
+     * it for the same Name Tag (such as toggling the visibility
+     * twice) drops that one and is queued at the tail as usual,
+     * so only the latest one is sent and call order is kept.
+     * Called once per tick by the {@link by.thmihnea.runnable.TagCommandTask}.
+     */
+    public static void drain() {
+        if (queue.isEmpty()) return;
+        TagCommand command;
+        while ((command = queue.poll()) != null) {
+            long key = command.getTagKey();
+            Integer index = last.get(key);
+            if (index != null && command.supersedes(batch.get(index)))
+                batch.set(index, null);
+            last.put(key, batch.size());
+            batch.add(command);
+        }
+
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                TagCommand queued = batch.get(i);
+                if (queued == null || !queued.getPlayer().isOnline()) continue;
+                queued.execute(handler);
+            }
+        } finally {
+            batch.clear();
+            last.clear();
+        }
+    }
+
+    /**
+     * Drops every queued operation.
+     */
+    public static void clear() {
+        queue.clear();
+    }
+
+    /**
+     * Returns the amount of
+     * queued operations.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.EntityHitbox;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.util.IntObjectMap;
+import org.bukkit.entity.Ageable;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Slime;
+import org.bukkit.entity.Zombie;
+
+public class TagOffsetManager {
+
+    /**
+     * The height of a zombie's bounding box, which
+     * is what the base offset is calibrated against.
+     */
+    private static final double ZOMBIE_HEIGHT = 1.95D;
+
+    /**
+     * Distance between the top of an entity's bounding
+     * box and its Name Tag. Calibrated so that a zombie's
+     * Name Tag stays where its {@link EntityHitbox} puts it.
+     */
+    public static final double HEIGHT_OFFSET = EntityHitbox.ZOMBIE.getOffsetY() - ZOMBIE_HEIGHT;
+
+    /**
+     * Map which keeps track of every single
+     * Name Tag offset we've computed, pointed at by
+     * a key made out of the entity's type, size and age.
+     * A slime changing its size simply maps to another key,
+     * so entries never need to be invalidated.
+     */
+    private static final IntObjectMap<Double> offsets = new IntObjectMap<>();
+
+    /**
+     * Returns the y offset of the Name Tag of a certain
+     * {@link Entity}, relative to its location. The offset
+     * is derived from the entity's actual height only once
+     * per type, size and age, so the update loop never
+     * measures bounding boxes.
+     * Players change their height with their pose, so they
+     * keep the offset of their {@link EntityHitbox}.
+     * @param entity The entity holding the Name Tag.
+     * @return {@link Double}
+     */
+    public static double getOffsetY(Entity entity) {
+        if (entity.getType() == EntityType.PLAYER)
+            return EntityHitbox.getOffsetY(entity);
+
+        int key = getKey(entity);
+        Double offset = offsets.get(key);
+        if (offset == null) {
+            double height = NameTagAPI.getNMSHandler().getHeight(entity);
+            offset = height > 0 ? height + HEIGHT_OFFSET : EntityHitbox.getOffsetY(entity);
+            offsets.put(key, offset);
+        }
+        return offset;
+    }
+
+    /**
+     * Forgets every offset we've computed.
+     */
+    public static void clear() {
+        offsets.clear();
+    }
+
+    /**
+     * Returns the amount of
+     * offsets we've computed.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        return offsets.size();
+    }
+
+    /**
+     * Packs the type, size and age of an
+     * entity into a single key.
+     * @param entity The entity.
+     * @return {@link Integer}
+     */
+    private static int getKey(Entity entity) {
+        int size = 0;
+        boolean baby = false;
+        if (entity instanceof Slime)
+            size = ((Slime) entity).getSize();
+        if (entity instanceof Ageable)
+            baby = !((Ageable) entity).isAdult();
+        else if (entity instanceof Zombie)
+            baby = ((Zombie) entity).isBaby();
+        else if (entity instanceof ArmorStand)
+            baby = ((ArmorStand) entity).isSmall();
+        return entity.getType().ordinal() << 16 | (size & 0x7FFF) << 1 | (baby ? 1 : 0);
+    }
+}
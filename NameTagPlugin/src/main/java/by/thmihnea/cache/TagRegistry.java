@@ -0,0 +1,606 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.tag.TagHost;
+import by.thmihnea.tag.TagViewer;
+import by.thmihnea.util.IntObjectMap;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public class TagRegistry {
+
+    /**
+     * Guards every index below, which makes every public
+     * method of the registry thread-safe. Reads share the read
+     * lock and mutations take the write lock. A single lock, rather
+     * than one per index, since every mutation touches several
+     * of them at once. Lists handed out are never the live ones.
+     */
+    private static final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Every tagged entity, pointed at
+     * by its entity id (host -> tags).
+     */
+    private static final IntObjectMap<TagHost> hosts = new IntObjectMap<>();
+
+    /**
+     * Every fake armor stand, pointed at by its
+     * entity id, mapped to the entity which holds
+     * it (tag -> host).
+     */
+    private static final IntObjectMap<TagHost> owners = new IntObjectMap<>();
+
+    /**
+     * Every player which can see at least a Name Tag,
+     * pointed at by the player's entity id. Each viewer keeps
+     * track of the tagged entities it can see (viewer -> tags).
+     */
+    private static final IntObjectMap<TagViewer> viewers = new IntObjectMap<>();
+
+    /**
+     * Viewers, pointed at by their slot.
+     */
+    private static TagViewer[] slots = new TagViewer[16];
+
+    /**
+     * Slots which have been released and
+     * can be handed out again.
+     */
+    private static int[] freeSlots = new int[16];
+    private static int freeSlotCount;
+
+    /**
+     * The next slot which has never
+     * been handed out.
+     */
+    private static int nextSlot;
+
+    /**
+     * Returns the registered tagged entity
+     * for a certain entity, or null.
+     * @param entity Entity to look up for.
+     * @return {@link TagHost}
+     */
+    public static TagHost getHost(Entity entity) {
+        lock.readLock().lock();
+        try {
+            return hosts.get(entity.getEntityId());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the registered tagged entity
+     * holding a certain fake armor stand, or null.
+     * @param armorStandId Entity id of the armor stand.
+     * @return {@link TagHost}
+     */
+    public static TagHost getOwner(int armorStandId) {
+        lock.readLock().lock();
+        try {
+            return owners.get(armorStandId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the registered viewer for
+     * a certain player, or null.
+     * @param player Player to look up for.
+     * @return {@link TagViewer}
+     */
+    public static TagViewer getViewer(Player player) {
+        lock.readLock().lock();
+        try {
+            return viewers.get(player.getEntityId());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the list of lines a player can see
+     * on a certain entity, parametrized as {@link LivingEntity}
+     * objects, or null if there aren't any.
+     * The list is a snapshot, so it's safe to iterate
+     * while other threads keep changing the Name Tag.
+     * @param entity Entity to look up for.
+     * @param player Player to look up for.
+     * @return {@link List<LivingEntity>}
+     */
+    public static List<LivingEntity> getLines(Entity entity, Player player) {
+        lock.readLock().lock();
+        try {
+            List<LivingEntity> lines = findLines(entity, player);
+            return lines == null ? null : new ArrayList<>(lines);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the armor stand holding the actual Name Tag
+     * (line number 0) a player can see on a certain entity,
+     * or null if there isn't any.
+     * @param entity Entity to look up for.
+     * @param player Player to look up for.
+     * @return {@link LivingEntity}
+     */
+    public static LivingEntity getNameTag(Entity entity, Player player) {
+        lock.readLock().lock();
+        try {
+            List<LivingEntity> lines = findLines(entity, player);
+            if (lines == null || lines.isEmpty()) return null;
+            return lines.get(0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the armor stand holding a certain line
+     * a player can see on a certain entity, or null
+     * if there isn't any.
+     * @param entity Entity to look up for.
+     * @param player Player to look up for.
+     * @param line The line number.
+     * @return {@link LivingEntity}
+     */
+    public static LivingEntity getLine(Entity entity, Player player, int line) {
+        lock.readLock().lock();
+        try {
+            List<LivingEntity> lines = findLines(entity, player);
+            if (lines == null || line < 0 || line >= lines.size()) return null;
+            return lines.get(line);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tells us whether or not a player can
+     * already see a Name Tag on a certain entity.
+     * @param entity Entity to look up for.
+     * @param player Player to look up for.
+     * @return {@link Boolean}
+     */
+    public static boolean hasNameTag(Entity entity, Player player) {
+        lock.readLock().lock();
+        try {
+            return getNameTag(entity, player) != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tells us whether or not an entity has a
+     * Name Tag, for at least a player.
+     * @param entity Entity to look up for.
+     * @return {@link Boolean}
+     */
+    public static boolean hasNameTag(Entity entity) {
+        lock.readLock().lock();
+        try {
+            return hosts.containsKey(entity.getEntityId());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every player which can see
+     * the Name Tag of a certain entity.
+     * @param entity Entity to look up for.
+     * @return {@link List<Player>}
+     */
+    public static List<Player> getViewers(Entity entity) {
+        lock.readLock().lock();
+        try {
+            TagHost host = hosts.get(entity.getEntityId());
+            if (host == null) return Collections.emptyList();
+            List<Player> players = new ArrayList<>(host.getLines().size());
+            host.getLines().forEach((slot, lines) -> {
+                Player player = slots[slot].getPlayer();
+                if (player != null) players.add(player);
+            });
+            return players;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every entity whose Name Tag a certain
+     * player can see. Walks only the player's own
+     * viewer index, so the cost is bound by the number
+     * of tags that player can see.
+     * @param player Player to look up for.
+     * @return {@link List<Entity>}
+     */
+    public static List<Entity> getVisibleEntities(Player player) {
+        lock.readLock().lock();
+        try {
+            TagViewer viewer = viewers.get(player.getEntityId());
+            if (viewer == null) return Collections.emptyList();
+            List<Entity> entities = new ArrayList<>(viewer.getHosts().size());
+            viewer.getHosts().forEachValue(host -> {
+                Entity entity = host.getEntity();
+                if (entity != null) entities.add(entity);
+            });
+            return entities;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every armor stand a certain player
+     * can see, on any entity. Walks only the
+     * player's own viewer index.
+     * @param player Player to look up for.
+     * @return {@link List<LivingEntity>}
+     */
+    public static List<LivingEntity> getArmorStands(Player player) {
+        lock.readLock().lock();
+        try {
+            TagViewer viewer = viewers.get(player.getEntityId());
+            if (viewer == null) return Collections.emptyList();
+            List<LivingEntity> armorStands = new ArrayList<>();
+            viewer.getHosts().forEachValue(host -> armorStands.addAll(host.getLines(viewer.getSlot())));
+            return armorStands;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entities whose
+     * Name Tag a certain player can see.
+     * @param player Player to look up for.
+     * @return {@link Integer}
+     */
+    public static int getVisibleCount(Player player) {
+        lock.readLock().lock();
+        try {
+            TagViewer viewer = viewers.get(player.getEntityId());
+            return viewer == null ? 0 : viewer.getHosts().size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Calls the consumer for every
+     * single tagged entity. The consumer runs over a
+     * snapshot, outside of the lock, so it may freely
+     * call back into the registry.
+     * @param consumer The consumer.
+     */
+    public static void forEachHost(Consumer<TagHost> consumer) {
+        List<TagHost> snapshot;
+        lock.readLock().lock();
+        try {
+            snapshot = new ArrayList<>(hosts.size());
+            hosts.forEachValue(snapshot::add);
+        } finally {
+            lock.readLock().unlock();
+        }
+        snapshot.forEach(consumer);
+    }
+
+    /**
+     * Adds a line on top of the Name Tag a player can see
+     * on a certain entity. The first line added becomes the
+     * actual Name Tag. Every index is updated at once.
+     * @param player Player which can see the line.
+     * @param entity Entity holding the line.
+     * @param armorStand The armor stand fake entity.
+     */
+    public static void addLine(Player player, Entity entity, LivingEntity armorStand) {
+        lock.writeLock().lock();
+        try {
+            TagHost host = hosts.get(entity.getEntityId());
+            if (host == null) {
+                host = new TagHost(entity);
+                hosts.put(host.getEntityId(), host);
+                HostChunkManager.add(host, entity.getLocation());
+            }
+            TagViewer viewer = getOrCreateViewer(player);
+            List<LivingEntity> lines = host.getLines(viewer.getSlot());
+            if (lines == null) {
+                lines = new ArrayList<>(2);
+                host.getLines().put(viewer.getSlot(), lines);
+                viewer.getHosts().put(host.getEntityId(), host);
+            }
+            lines.add(armorStand);
+            owners.put(armorStand.getEntityId(), host);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a single line a player
+     * can see on a certain entity.
+     * @param player Player to look up for.
+     * @param entity Entity to look up for.
+     * @param line Line number which we want to delete.
+     * @return {@link LivingEntity} The removed armor stand, or null.
+     */
+    public static LivingEntity removeLine(Player player, Entity entity, int line) {
+        lock.writeLock().lock();
+        try {
+            List<LivingEntity> lines = findLines(entity, player);
+            if (lines == null || line < 0 || line >= lines.size()) return null;
+            LivingEntity armorStand = lines.remove(line);
+            owners.remove(armorStand.getEntityId());
+            if (lines.isEmpty()) removeNameTag(entity, player);
+            return armorStand;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every line a player can see on a
+     * certain entity. The entity is removed entirely
+     * once no other player can see its Name Tag.
+     * @param entity Entity to look up for.
+     * @param player Player to look up for.
+     * @return {@link List<LivingEntity>} The removed armor stands.
+     */
+    public static List<LivingEntity> removeNameTag(Entity entity, Player player) {
+        lock.writeLock().lock();
+        try {
+            TagHost host = hosts.get(entity.getEntityId());
+            TagViewer viewer = viewers.get(player.getEntityId());
+            if (host == null || viewer == null) return Collections.emptyList();
+            return detach(host, viewer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Completely removes an entity, along with every
+     * single line any player could see, from our registry.
+     * @param entity Entity to delete.
+     * @return {@link List<LivingEntity>} The removed armor stands.
+     */
+    public static List<LivingEntity> removeHost(Entity entity) {
+        lock.writeLock().lock();
+        try {
+            TagHost host = hosts.get(entity.getEntityId());
+            if (host == null) return Collections.emptyList();
+            List<LivingEntity> removed = new ArrayList<>();
+            removeHost(host, removed);
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Entirely removes a player, along with every
+     * single line it could see, and releases its slot.
+     * Only the entities the player could see are visited.
+     * @param player Player to delete.
+     * @return {@link List<LivingEntity>} The removed armor stands.
+     */
+    public static List<LivingEntity> removeViewer(Player player) {
+        lock.writeLock().lock();
+        try {
+            TagViewer viewer = viewers.get(player.getEntityId());
+            if (viewer == null) return Collections.emptyList();
+            List<LivingEntity> removed = new ArrayList<>();
+            removeViewer(viewer, removed);
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Cleanup sweep over the whole registry. Removes every
+     * tagged entity which is no longer valid (dead, unloaded
+     * or garbage collected) and every viewer which is no
+     * longer online, in case any of them missed its
+     * regular cleanup.
+     * @return {@link List<LivingEntity>} The removed armor stands.
+     */
+    public static List<LivingEntity> sweep() {
+        lock.writeLock().lock();
+        try {
+            List<TagHost> deadHosts = new ArrayList<>();
+            hosts.forEachValue(host -> {
+                if (!host.isValid()) deadHosts.add(host);
+            });
+            List<TagViewer> deadViewers = new ArrayList<>();
+            viewers.forEachValue(viewer -> {
+                if (!viewer.isOnline()) deadViewers.add(viewer);
+            });
+
+            List<LivingEntity> removed = new ArrayList<>();
+            deadHosts.forEach(host -> removeHost(host, removed));
+            deadViewers.forEach(viewer -> removeViewer(viewer, removed));
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of
+     * tagged entities.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        lock.readLock().lock();
+        try {
+            return hosts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of
+     * viewers.
+     * @return {@link Integer}
+     */
+    public static int getViewerCount() {
+        lock.readLock().lock();
+        try {
+            return viewers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the lines a player can see on a
+     * certain entity, as stored. Requires the lock.
+     * @param entity Entity to look up for.
+     * @param player Player to look up for.
+     * @return {@link List<LivingEntity>}
+     */
+    private static List<LivingEntity> findLines(Entity entity, Player player) {
+        TagHost host = hosts.get(entity.getEntityId());
+        if (host == null) return null;
+        TagViewer viewer = viewers.get(player.getEntityId());
+        if (viewer == null) return null;
+        return host.getLines(viewer.getSlot());
+    }
+
+    /**
+     * Removes a tagged entity along with every
+     * line any player could see.
+     * @param host The tagged entity.
+     * @param removed List collecting the removed armor stands.
+     */
+    private static void removeHost(TagHost host, List<LivingEntity> removed) {
+        host.getLines().forEach((slot, lines) -> {
+            removed.addAll(lines);
+            lines.forEach(armorStand -> owners.remove(armorStand.getEntityId()));
+            slots[slot].getHosts().remove(host.getEntityId());
+        });
+        unregisterHost(host);
+    }
+
+    /**
+     * Removes a viewer along with every line it could
+     * see, visiting only the entities it could see.
+     * @param viewer The viewer.
+     * @param removed List collecting the removed armor stands.
+     */
+    private static void removeViewer(TagViewer viewer, List<LivingEntity> removed) {
+        viewer.getHosts().forEachValue(host -> {
+            List<LivingEntity> lines = host.getLines().remove(viewer.getSlot());
+            if (lines == null) return;
+            lines.forEach(armorStand -> owners.remove(armorStand.getEntityId()));
+            removed.addAll(lines);
+            if (host.getLines().isEmpty()) {
+                unregisterHost(host);
+            }
+        });
+        viewer.getHosts().clear();
+        releaseViewer(viewer);
+    }
+
+    /**
+     * Removes the lines of a single viewer from a tagged
+     * entity and keeps every index consistent.
+     * @param host The tagged entity.
+     * @param viewer The viewer.
+     * @return {@link List<LivingEntity>} The removed armor stands.
+     */
+    private static List<LivingEntity> detach(TagHost host, TagViewer viewer) {
+        List<LivingEntity> lines = host.getLines().remove(viewer.getSlot());
+        viewer.getHosts().remove(host.getEntityId());
+        if (lines == null) return Collections.emptyList();
+        lines.forEach(armorStand -> owners.remove(armorStand.getEntityId()));
+        if (host.getLines().isEmpty()) {
+            unregisterHost(host);
+        }
+        return lines;
+    }
+
+    /**
+     * Drops a tagged entity which has no lines
+     * left from every index, along with every
+     * line bound to its Name Tag.
+     * @param host The tagged entity.
+     */
+    private static void unregisterHost(TagHost host) {
+        hosts.remove(host.getEntityId());
+        HostChunkManager.remove(host);
+        DynamicLineManager.unbindAll(host.getEntityId());
+        AnimatedLineManager.stopAll(host.getEntityId());
+        HealthBarManager.unbind(host.getEntityId());
+    }
+
+    /**
+     * Returns the viewer of a player,
+     * handing out a new slot if needed.
+     * @param player The player.
+     * @return {@link TagViewer}
+     */
+    private static TagViewer getOrCreateViewer(Player player) {
+        TagViewer viewer = viewers.get(player.getEntityId());
+        if (viewer != null) return viewer;
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextSlot++;
+        if (slot >= slots.length) slots = Arrays.copyOf(slots, slots.length << 1);
+        viewer = new TagViewer(slot, player);
+        slots[slot] = viewer;
+        viewers.put(player.getEntityId(), viewer);
+        return viewer;
+    }
+
+    /**
+     * Removes a viewer and releases its slot,
+     * so that it can be re-used.
+     * @param viewer The viewer.
+     */
+    private static void releaseViewer(TagViewer viewer) {
+        viewers.remove(viewer.getEntityId());
+        slots[viewer.getSlot()] = null;
+        if (freeSlotCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeSlots.length << 1);
+        freeSlots[freeSlotCount++] = viewer.getSlot();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+public class TextInternManager {
+
+    /**
+     * Our intern table, pointing each translated tag text at
+     * the single compiled form every armor stand showing it
+     * shares. Both sides are held weakly: the compiled form
+     * references its text, and the armor stands reference the
+     * compiled form, so an entry lives exactly as long as at
+     * least one line shows it and goes away with the last one,
+     * with no acquire or release calls to keep balanced.
+     */
+    private static final Map<String, WeakReference<Object>> table = new WeakHashMap<>();
+
+    /**
+     * Returns the shared compiled form of a translated tag
+     * text, compiling it only if no line currently shows it.
+     * The compiled form must keep a reference to the text
+     * it was compiled from, or be the text itself.
+     * @param text The translated tag text.
+     * @param compiler Compiles the text, e.g. into a
+     *                 chat component.
+     * @param <T> The type of the compiled form.
+     * @return The compiled form.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T> T intern(String text, Function<String, T> compiler) {
+        WeakReference<Object> reference = table.get(text);
+        Object compiled = reference == null ? null : reference.get();
+        if (compiled != null) return (T) compiled;
+        T created = compiler.apply(text);
+        // Drop the stale entry first, so the key kept is the
+        // very text instance the new compiled form holds on to.
+        if (reference != null) table.remove(text);
+        table.put(text, new WeakReference<>(created));
+        return created;
+    }
+
+    /**
+     * Returns the amount of distinct texts
+     * currently being shown.
+     * @return {@link Integer}
+     */
+    public static synchronized int size() {
+        return table.size();
+    }
+
+    /**
+     * Empties the intern table. Lines already
+     * shown keep their compiled forms.
+     */
+    public static synchronized void clear() {
+        table.clear();
+    }
+}
@@ -0,0 +1,186 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cache;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.hologram.TransientText;
+import by.thmihnea.util.IntList;
+import by.thmihnea.util.TimingWheel;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+public class TransientTextManager {
+
+    /**
+     * Number of slots of our timing wheel. One slot
+     * per tick, so anything expiring within ~25 seconds
+     * never has to wait for a full revolution.
+     */
+    private static final int WHEEL_SLOTS = 512;
+
+    /**
+     * Downwards acceleration applied
+     * to moving text, each tick.
+     */
+    private static final double GRAVITY = 0.08D;
+
+    /**
+     * Drag factor applied to the
+     * motion of moving text, each tick.
+     */
+    private static final double DRAG = 0.98D;
+
+    /**
+     * Upper bound for {@link #getFlightTicks(double)}, so
+     * that text thrown downwards still expires.
+     */
+    private static final int MAX_FLIGHT_TICKS = 200;
+
+    /**
+     * The hashed timing wheel keeping track of when
+     * each piece of {@link TransientText} should expire.
+     */
+    private static final TimingWheel<TransientText> wheel = new TimingWheel<>(WHEEL_SLOTS);
+
+    /**
+     * Entity ids which have expired during the current
+     * tick, grouped by the player they should be destroyed for.
+     * Each player's buffer is cleared, not dropped, after every
+     * tick and reused afterwards. Players are held weakly, so
+     * the buffers of players who left go away on their own.
+     */
+    private static final Map<Player, IntList> expired = new WeakHashMap<>();
+
+    /**
+     * Every piece of text which is still moving. The server
+     * steps each of them once per tick, until it expires.
+     */
+    private static final Set<TransientText> moving = new LinkedHashSet<>();
+
+    /**
+     * Spawns a piece of transient text for a {@link Collection}
+     * of players and schedules it for removal.
+     * @param players Players which should see the text.
+     * @param location Location at which the text should
+     *                 be displayed.
+     * @param text The text itself.
+     * @param ticks For how many ticks the text should
+     *              be displayed.
+     * @return {@link TransientText}
+     */
+    public static TransientText spawn(Collection<? extends Player> players, Location location, String text, int ticks) {
+        text = ColorCacheManager.translate(text);
+        TransientText transientText = new TransientText(players, location, text);
+        wheel.schedule(transientText, ticks);
+        return transientText;
+    }
+
+    /**
+     * Spawns a piece of moving transient text for a {@link Collection}
+     * of players and schedules it for removal. The text is moved
+     * by the server each tick, out of the initial velocity.
+     * @param players Players which should see the text.
+     * @param location Location at which the text should
+     *                 be spawned.
+     * @param text The text itself.
+     * @param velocity The initial velocity of the text.
+     * @param ticks For how many ticks the text should be displayed.
+     *              Pass 0 or less to remove it as soon as it falls
+     *              back down to the height it has been spawned at.
+     * @return {@link TransientText}
+     */
+    public static TransientText spawn(Collection<? extends Player> players, Location location, String text, Vector velocity, int ticks) {
+        text = ColorCacheManager.translate(text);
+        TransientText transientText = new TransientText(players, location, text, velocity);
+        wheel.schedule(transientText, ticks > 0 ? ticks : getFlightTicks(velocity.getY()));
+        moving.add(transientText);
+        return transientText;
+    }
+
+    /**
+     * Returns after how many ticks a piece of text thrown
+     * with a certain vertical velocity falls back down to the height
+     * it has been thrown from. This replays the exact same steps
+     * {@link TransientText#move(INMSHandler, double, double)} does
+     * each tick (move, then apply gravity and drag), so the result
+     * matches what players see.
+     * @param velocityY The initial vertical velocity.
+     * @return {@link Integer}
+     */
+    public static int getFlightTicks(double velocityY) {
+        double y = 0;
+        double motionY = velocityY;
+        for (int tick = 1; tick <= MAX_FLIGHT_TICKS; tick++) {
+            y += motionY;
+            motionY = (motionY - GRAVITY) * DRAG;
+            if (y <= 0) return tick;
+        }
+        return MAX_FLIGHT_TICKS;
+    }
+
+    /**
+     * Moves our timing wheel forward by one tick. Every
+     * piece of text which expires during this tick is torn down
+     * with a single multi-id destroy packet per viewer, and the
+     * remaining moving text is stepped forward.
+     */
+    public static void tick() {
+        if (wheel.isEmpty()) return;
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        wheel.advance(transientText -> {
+            if (transientText.isMoving()) moving.remove(transientText);
+            int id = transientText.getArmorStand().getEntityId();
+            transientText.getViewers().forEach(player ->
+                    expired.computeIfAbsent(player, p -> new IntList()).add(id));
+        });
+        for (TransientText transientText : moving)
+            transientText.move(handler, GRAVITY, DRAG);
+        if (expired.isEmpty()) return;
+
+        expired.forEach((player, ids) -> {
+            if (ids.isEmpty()) return;
+            if (player.isOnline()) handler.sendPacket(player, handler.getDestroyPacket(ids.toArray()));
+            ids.clear();
+        });
+    }
+
+    /**
+     * Returns the amount of transient texts
+     * which are still being displayed.
+     * @return {@link Integer}
+     */
+    public static int size() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cluster;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.cache.PacketUpdateTaskManager;
+import by.thmihnea.cache.TagRegistry;
+import by.thmihnea.runnable.PacketUpdateTask;
+import by.thmihnea.util.IntHashSet;
+import by.thmihnea.util.IntList;
+import by.thmihnea.util.IntObjectMap;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AggregateTag {
+
+    /**
+     * The player which can see the aggregate tag.
+     * Held weakly, like everything else in the registry.
+     */
+    private final WeakReference<Player> player;
+
+    /**
+     * The fake armor stand displaying
+     * the aggregate text.
+     */
+    private final LivingEntity armorStand;
+
+    /**
+     * The armor stands destroyed in favour of this
+     * aggregate tag, pointed at by the entity id of the
+     * member holding them, so that we only bring back
+     * what we've destroyed ourselves.
+     */
+    private final IntObjectMap<List<LivingEntity>> hidden = new IntObjectMap<>();
+
+    /**
+     * The text which is currently
+     * being displayed.
+     */
+    private String text;
+
+    /**
+     * The location the aggregate
+     * tag is currently displayed at.
+     */
+    private double x;
+    private double y;
+    private double z;
+
+    /**
+     * Constructor for an aggregate tag.
+     * Spawns the fake armor stand right away.
+     * @param player The player which should see the tag.
+     * @param location The location of the tag.
+     * @param text The text of the tag.
+     */
+    public AggregateTag(Player player, Location location, String text) {
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        this.player = new WeakReference<>(player);
+        this.text = text;
+        this.x = location.getX();
+        this.y = location.getY();
+        this.z = location.getZ();
+        this.armorStand = handler.getLivingEntity(handler.getEntityArmorStand(text, location));
+        handler.sendPacket(player, handler.getSpawnPacket(this.armorStand));
+        handler.sendPacket(player, handler.getMetadataPacket(this.armorStand));
+    }
+
+    /**
+     * Moves the aggregate tag and changes its text,
+     * sending packets only for what has actually changed.
+     * @param location The new location of the tag.
+     * @param text The new text of the tag.
+     */
+    public void update(Location location, String text) {
+        Player player = this.player.get();
+        if (player == null) return;
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        if (!text.equals(this.text)) {
+            this.text = text;
+            handler.setCustomName(this.armorStand, text);
+            handler.sendPacket(player, handler.getMetadataPacket(this.armorStand));
+        }
+        double dx = location.getX() - this.x;
+        double dy = location.getY() - this.y;
+        double dz = location.getZ() - this.z;
+        if (dx * dx + dy * dy + dz * dz > 0.01D) {
+            this.x = location.getX();
+            this.y = location.getY();
+            this.z = location.getZ();
+            handler.setLocation(this.armorStand, this.x, this.y, this.z);
+            handler.sendPacket(player, handler.getTeleportPacket(this.armorStand));
+        }
+    }
+
+    /**
+     * Hides the Name Tags of every member of the cluster.
+     * Their armor stands are paused and their ids collected,
+     * so that the caller can destroy every stand hidden
+     * during an update with a single packet. Lines added
+     * since the last update are picked up as well.
+     * @param members Every member of the cluster.
+     * @param destroyed Collects the ids of the armor
+     *                  stands which should be destroyed.
+     */
+    public void hide(List<Entity> members, IntList destroyed) {
+        Player player = this.player.get();
+        if (player == null) return;
+        for (Entity member : members) {
+            List<LivingEntity> lines = TagRegistry.getLines(member, player);
+            if (lines == null) continue;
+            List<LivingEntity> hiddenLines = this.hidden.get(member.getEntityId());
+            for (LivingEntity line : lines) {
+                PacketUpdateTask packetUpdateTask = PacketUpdateTaskManager.getFromEntityLiving(line);
+                if (packetUpdateTask != null) packetUpdateTask.setPaused(true);
+                if (hiddenLines != null && hiddenLines.contains(line)) continue;
+                if (hiddenLines == null) {
+                    hiddenLines = new ArrayList<>(lines.size());
+                    this.hidden.put(member.getEntityId(), hiddenLines);
+                }
+                hiddenLines.add(line);
+                destroyed.add(line.getEntityId());
+            }
+        }
+    }
+
+    /**
+     * Brings back the Name Tags of every hidden entity
+     * which isn't a member of the cluster anymore.
+     * @param members Every current member of the cluster.
+     */
+    public void restoreExcept(List<Entity> members) {
+        Player player = this.player.get();
+        if (player == null || this.hidden.isEmpty()) return;
+        IntHashSet memberIds = new IntHashSet(members.size());
+        for (Entity member : members)
+            memberIds.add(member.getEntityId());
+        IntList left = new IntList();
+        this.hidden.forEach((entityId, lines) -> {
+            if (!memberIds.contains(entityId)) left.add(entityId);
+        });
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        for (int i = 0; i < left.size(); i++)
+            this.restore(handler, player, this.hidden.remove(left.get(i)));
+    }
+
+    /**
+     * Destroys the aggregate tag and brings back
+     * every individual Name Tag it has been replacing.
+     */
+    public void remove() {
+        Player player = this.player.get();
+        if (player == null || !player.isOnline()) return;
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        handler.sendPacket(player, handler.getDestroyPacket(this.armorStand));
+        this.hidden.forEachValue(lines -> this.restore(handler, player, lines));
+        this.hidden.clear();
+    }
+
+    /**
+     * Spawns hidden armor stands back and resumes
+     * their update tasks. Armor stands which have been
+     * removed in the meantime are left alone.
+     * @param handler The NMS handler.
+     * @param player The player which should see them.
+     * @param lines The hidden armor stands.
+     */
+    private void restore(INMSHandler handler, Player player, List<LivingEntity> lines) {
+        for (LivingEntity line : lines) {
+            PacketUpdateTask packetUpdateTask = PacketUpdateTaskManager.getFromEntityLiving(line);
+            if (packetUpdateTask == null || TagRegistry.getOwner(line.getEntityId()) == null) continue;
+            handler.sendPacket(player, handler.getSpawnPacket(line));
+            handler.sendPacket(player, handler.getMetadataPacket(line));
+            packetUpdateTask.setPaused(false);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cluster;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Cluster {
+
+    /**
+     * The key of the cluster.
+     */
+    private final ClusterKey key;
+
+    /**
+     * The world of the cluster.
+     */
+    private final World world;
+
+    /**
+     * Every tagged entity which
+     * belongs to this cluster.
+     */
+    private final List<Entity> members = new ArrayList<>();
+
+    /**
+     * Sums of the coordinates of every
+     * member, used for computing the center.
+     */
+    private double sumX;
+    private double sumY;
+    private double sumZ;
+
+    /**
+     * Constructor for a cluster of tagged
+     * entities, sharing the same grid cell
+     * and entity type.
+     * @param key The key of the cluster.
+     * @param world The world of the cluster.
+     */
+    public Cluster(ClusterKey key, World world) {
+        this.key = key;
+        this.world = world;
+    }
+
+    /**
+     * Adds a member to the cluster.
+     * @param entity The entity itself.
+     * @param location The current location of the entity.
+     */
+    public void add(Entity entity, Location location) {
+        this.members.add(entity);
+        this.sumX += location.getX();
+        this.sumY += location.getY();
+        this.sumZ += location.getZ();
+    }
+
+    /**
+     * Returns the average location of
+     * every member of the cluster.
+     * @return {@link Location}
+     */
+    public Location getCenter() {
+        int size = this.members.size();
+        return new Location(this.world, this.sumX / size, this.sumY / size, this.sumZ / size);
+    }
+
+    /**
+     * Returns the key of the cluster.
+     * @return {@link ClusterKey}
+     */
+    public ClusterKey getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns every member of the cluster.
+     * @return {@link List<Entity>}
+     */
+    public List<Entity> getMembers() {
+        return this.members;
+    }
+
+    /**
+     * Returns how many entities
+     * belong to the cluster.
+     * @return {@link Integer}
+     */
+    public int size() {
+        return this.members.size();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.cluster;
+
+import org.bukkit.entity.EntityType;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public class ClusterKey {
+
+    /**
+     * The world the cell belongs to.
+     */
+    private final UUID world;
+
+    /**
+     * Grid coordinates of the cell.
+     */
+    private final int x;
+    private final int z;
+
+    /**
+     * The type of the entities which are
+     * being grouped together, as we only aggregate
+     * entities of the same type.
+     */
+    private final EntityType type;
+
+    /**
+     * Constructor for a cluster key, which
+     * identifies a single grid cell and entity type.
+     * @param world The world of the cell.
+     * @param x Grid X coordinate.
+     * @param z Grid Z coordinate.
+     * @param type The entity type.
+     */
+    public ClusterKey(UUID world, int x, int z, EntityType type) {
+        this.world = world;
+        this.x = x;
+        this.z = z;
+        this.type = type;
+    }
+
+    /**
+     * Returns the entity type which
+     * is being grouped.
+     * @return {@link EntityType}
+     */
+    public EntityType getType() {
+        return this.type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ClusterKey)) return false;
+        ClusterKey other = (ClusterKey) o;
+        return this.x == other.x && this.z == other.z && this.type == other.type && this.world.equals(other.world);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.world, this.x, this.z, this.type);
+    }
+}
@@ -0,0 +1,300 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.command;
+
+import by.thmihnea.INMSHandler;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TagCommand {
+
+    /**
+     * Every kind of Name Tag operation
+     * which can be queued.
+     */
+    public enum Type {
+        SET_NAME_TAG,
+        SET_LOCALIZED_NAME_TAG,
+        DELETE_NAME_TAG,
+        ADD_LINE,
+        REMOVE_LINE,
+        SET_VISIBLE,
+        SET_LINES,
+        SET_LINE
+    }
+
+    /**
+     * The kind of operation.
+     */
+    private final Type type;
+
+    /**
+     * The player which sees the Name Tag.
+     */
+    private final Player player;
+
+    /**
+     * The entity holding the Name Tag.
+     */
+    private final Entity entity;
+
+    /**
+     * The text of the line, if any.
+     */
+    private final String text;
+
+    /**
+     * Every line of the Name Tag, if any.
+     */
+    private final List<String> lines;
+
+    /**
+     * The variants of a localized Name Tag, if any.
+     */
+    private final Map<String, String> variants;
+
+    /**
+     * The line number, if any.
+     */
+    private final int line;
+
+    /**
+     * The visibility flag, if any.
+     */
+    private final boolean visible;
+
+    /**
+     * Constructor for a queued Name Tag operation.
+     * Use the static factories instead.
+     * @param type The kind of operation.
+     * @param player The player which sees the Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @param text The text of the line, if any.
+     * @param lines Every line of the Name Tag, if any.
+     * @param variants The variants of a localized Name Tag, if any.
+     * @param line The line number, if any.
+     * @param visible The visibility flag, if any.
+     */
+    private TagCommand(Type type, Player player, Entity entity, String text, List<String> lines, Map<String, String> variants, int line, boolean visible) {
+        this.type = type;
+        this.player = player;
+        this.entity = entity;
+        this.text = text;
+        this.lines = lines;
+        this.variants = variants;
+        this.line = line;
+        this.visible = visible;
+    }
+
+    /**
+     * Queued form of {@link INMSHandler#setNameTag(Player, Entity, String)}.
+     * @param player The player which sees the Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @param tag The tag itself.
+     * @return {@link TagCommand}
+     */
+    public static TagCommand setNameTag(Player player, Entity entity, String tag) {
+        return new TagCommand(Type.SET_NAME_TAG, player, entity, tag, null, null, 0, true);
+    }
+
+    /**
+     * Queued form of {@link INMSHandler#setLocalizedNameTag(Collection, Entity, Map)},
+     * for a single player. The variants are copied, so the
+     * caller may keep changing its map.
+     * @param player The player which sees the Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @param variants The tag in every language.
+     * @return {@link TagCommand}
+     */
+    public static TagCommand setLocalizedNameTag(Player player, Entity entity, Map<String, String> variants) {
+        return new TagCommand(Type.SET_LOCALIZED_NAME_TAG, player, entity, null, null, new HashMap<>(variants), 0, true);
+    }
+
+    /**
+     * Queued form of {@link INMSHandler#deleteNameTag(Player, Entity)}.
+     * @param player The player which sees the Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @return {@link TagCommand}
+     */
+    public static TagCommand deleteNameTag(Player player, Entity entity) {
+        return new TagCommand(Type.DELETE_NAME_TAG, player, entity, null, null, null, 0, false);
+    }
+
+    /**
+     * Queued form of {@link INMSHandler#addLine(Player, Entity, String)}.
+     * @param player The player which sees the Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @param tag The text of the new line.
+     * @return {@link TagCommand}
+     */
+    public static TagCommand addLine(Player player, Entity entity, String tag) {
+        return new TagCommand(Type.ADD_LINE, player, entity, tag, null, null, 0, true);
+    }
+
+    /**
+     * Queued form of {@link INMSHandler#removeLine(Player, Entity, int)}.
+     * @param player The player which sees the Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number.
+     * @return {@link TagCommand}
+     */
+    public static TagCommand removeLine(Player player, Entity entity, int line) {
+        return new TagCommand(Type.REMOVE_LINE, player, entity, null, null, null, line, false);
+    }
+
+    /**
+     * Queued form of {@link INMSHandler#setNameTagVisible(Player, Entity, boolean)}.
+     * @param player The player which sees the Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @param visible Whether or not the Name Tag should be visible.
+     * @return {@link TagCommand}
+     */
+    public static TagCommand setVisible(Player player, Entity entity, boolean visible) {
+        return new TagCommand(Type.SET_VISIBLE, player, entity, null, null, null, 0, visible);
+    }
+
+    /**
+     * Queued form of {@link INMSHandler#setLines(Player, Entity, List)}.
+     * The lines are copied, so the caller may keep changing its list.
+     * @param player The player which sees the Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @param lines Every line of the Name Tag.
+     * @return {@link TagCommand}
+     */
+    public static TagCommand setLines(Player player, Entity entity, List<String> lines) {
+        return new TagCommand(Type.SET_LINES, player, entity, null, new ArrayList<>(lines), null, 0, true);
+    }
+
+    /**
+     * Queued form of {@link INMSHandler#setLine(Player, Entity, int, String)}.
+     * @param player The player which sees the Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number.
+     * @param tag The new text of the line.
+     * @return {@link TagCommand}
+     */
+    public static TagCommand setLine(Player player, Entity entity, int line, String tag) {
+        return new TagCommand(Type.SET_LINE, player, entity, tag, null, null, line, true);
+    }
+
+    /**
+     * Returns a key which is unique to the Name Tag
+     * this command targets (player and entity).
+     * @return {@link Long}
+     */
+    public long getTagKey() {
+        return (long) this.player.getEntityId() << 32 | (this.entity.getEntityId() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Tells us whether or not this command can take the
+     * place of another command queued right before it for
+     * the same Name Tag. Only operations which overwrite
+     * state, rather than add to it, can be coalesced.
+     * Setting the Name Tag can't, as it does nothing once
+     * a Name Tag exists, so the first text is the one kept.
+     * @param other The command queued before.
+     * @return {@link Boolean}
+     */
+    public boolean supersedes(TagCommand other) {
+        if (this.type != other.type || this.line != other.line) return false;
+        switch (this.type) {
+            case SET_VISIBLE:
+            case SET_LINES:
+            case SET_LINE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Runs the operation. Must be
+     * called from the main thread.
+     * @param handler The NMS handler.
+     */
+    public void execute(INMSHandler handler) {
+        switch (this.type) {
+            case SET_NAME_TAG:
+                handler.setNameTag(this.player, this.entity, this.text);
+                break;
+            case SET_LOCALIZED_NAME_TAG:
+                handler.setLocalizedNameTag(Collections.singletonList(this.player), this.entity, this.variants);
+                break;
+            case DELETE_NAME_TAG:
+                handler.deleteNameTag(this.player, this.entity);
+                break;
+            case ADD_LINE:
+                handler.addLine(this.player, this.entity, this.text);
+                break;
+            case REMOVE_LINE:
+                handler.removeLine(this.player, this.entity, this.line);
+                break;
+            case SET_VISIBLE:
+                handler.setNameTagVisible(this.player, this.entity, this.visible);
+                break;
+            case SET_LINES:
+                handler.setLines(this.player, this.entity, this.lines);
+                break;
+            case SET_LINE:
+                handler.setLine(this.player, this.entity, this.line, this.text);
+                break;
+        }
+    }
+
+    /**
+     * Returns the kind of operation.
+     * @return {@link Type}
+     */
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the player which
+     * sees the Name Tag.
+     * @return {@link Player}
+     */
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Returns the entity
+     * holding the Name Tag.
+     * @return {@link Entity}
+     */
+    public Entity getEntity() {
+        return this.entity;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.hologram;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.cache.ColorCacheManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class StaticHologram {
+
+    /**
+     * The id of the hologram, as handed
+     * out by {@link by.thmihnea.cache.StaticHologramManager}.
+     */
+    private final int id;
+
+    /**
+     * The location of the top line.
+     */
+    private final Location location;
+
+    /**
+     * The fake armor stands, one per line,
+     * from top to bottom.
+     */
+    private final List<LivingEntity> lines;
+
+    /**
+     * Spawn & metadata packets of every line, built
+     * once when the hologram is created and re-used for
+     * every single viewer afterwards.
+     */
+    private final List<Object> spawnPackets;
+
+    /**
+     * Destroy packets of every line, built
+     * once as well.
+     */
+    private final List<Object> destroyPackets;
+
+    /**
+     * Constructor for a static hologram.
+     * This builds every single fake armor stand and
+     * packet up front, so showing the hologram to a
+     * player afterwards is only a matter of sending them.
+     * @param id The id of the hologram.
+     * @param location Location of the top line.
+     * @param tags The lines of the hologram, from
+     *             top to bottom.
+     */
+    public StaticHologram(int id, Location location, List<String> tags) {
+        this.id = id;
+        this.location = location.clone();
+        this.lines = new ArrayList<>(tags.size());
+        this.spawnPackets = new ArrayList<>(tags.size() * 2);
+        this.destroyPackets = new ArrayList<>(tags.size());
+
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        double gap = handler.getLineGap();
+        double y = location.getY();
+        for (String tag : tags) {
+            Location lineLocation = new Location(location.getWorld(), location.getX(), y, location.getZ());
+            LivingEntity armorStand = handler.getLivingEntity(handler.getEntityArmorStand(ColorCacheManager.translate(tag), lineLocation));
+            this.lines.add(armorStand);
+            this.spawnPackets.add(handler.getSpawnPacket(armorStand));
+            this.spawnPackets.add(handler.getMetadataPacket(armorStand));
+            this.destroyPackets.add(handler.getDestroyPacket(armorStand));
+            y -= gap;
+        }
+    }
+
+    /**
+     * Sends every line of the hologram
+     * to a certain {@link Player}. Sending it twice is
+     * harmless, as the client simply replaces the
+     * entity having the same id.
+     * @param player Player to show the hologram to.
+     */
+    public void show(Player player) {
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        this.spawnPackets.forEach(packet -> handler.sendPacket(player, packet));
+    }
+
+    /**
+     * Destroys every line of the hologram
+     * for a certain {@link Player}.
+     * @param player Player to hide the hologram from.
+     */
+    public void hide(Player player) {
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        this.destroyPackets.forEach(packet -> handler.sendPacket(player, packet));
+    }
+
+    /**
+     * Returns the id of the hologram.
+     * @return {@link Integer}
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns the location of the
+     * top line of the hologram.
+     * @return {@link Location}
+     */
+    public Location getLocation() {
+        return this.location;
+    }
+
+    /**
+     * Returns the world the hologram
+     * has been placed in.
+     * @return {@link World}
+     */
+    public World getWorld() {
+        return this.location.getWorld();
+    }
+
+    /**
+     * Returns the fake armor stands of the
+     * hologram, from top to bottom.
+     * @return {@link List<LivingEntity>}
+     */
+    public List<LivingEntity> getLines() {
+        return Collections.unmodifiableList(this.lines);
+    }
+}
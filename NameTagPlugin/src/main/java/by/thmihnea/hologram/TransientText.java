@@ -0,0 +1,175 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.hologram;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.NameTagAPI;
+import org.bukkit.Location;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class TransientText {
+
+    /**
+     * The fake armor stand which
+     * displays the text.
+     */
+    private final LivingEntity armorStand;
+
+    /**
+     * Every player which has been sent
+     * the text, so that we know who to destroy
+     * it for once it expires.
+     */
+    private final List<Player> viewers;
+
+    /**
+     * The current position of the text.
+     * Only changes for moving text.
+     */
+    private double x;
+    private double y;
+    private double z;
+
+    /**
+     * The current motion of the text, applied
+     * each tick by {@link #move(INMSHandler, double, double)}.
+     */
+    private double motionX;
+    private double motionY;
+    private double motionZ;
+
+    /**
+     * Whether or not the text moves.
+     */
+    private final boolean moving;
+
+    /**
+     * Constructor for a piece of transient text.
+     * Builds the fake armor stand and sends it right away
+     * to each viewer. Transient text has no {@link by.thmihnea.runnable.PacketUpdateTask},
+     * it simply stays where it has been spawned until it expires.
+     * @param viewers Players which should see the text.
+     * @param location Location at which the text
+     *                 should be displayed.
+     * @param text The text itself.
+     */
+    public TransientText(Collection<? extends Player> viewers, Location location, String text) {
+        this(viewers, location, text, null);
+    }
+
+    /**
+     * Constructor for a piece of moving transient text.
+     * Clients don't simulate the motion of fake armor stands,
+     * so the text is moved by the server, one step per tick,
+     * through {@link #move(INMSHandler, double, double)}.
+     * @param viewers Players which should see the text.
+     * @param location Location at which the text
+     *                 should be spawned.
+     * @param text The text itself.
+     * @param velocity The initial velocity of the text, or
+     *                 null if it shouldn't move at all.
+     */
+    public TransientText(Collection<? extends Player> viewers, Location location, String text, Vector velocity) {
+        INMSHandler handler = NameTagAPI.getNMSHandler();
+        this.armorStand = handler.getLivingEntity(handler.getEntityArmorStand(text, location));
+        this.viewers = new ArrayList<>(viewers);
+
+        this.x = location.getX();
+        this.y = location.getY();
+        this.z = location.getZ();
+        this.moving = velocity != null;
+        if (this.moving) {
+            this.motionX = velocity.getX();
+            this.motionY = velocity.getY();
+            this.motionZ = velocity.getZ();
+        }
+
+        Object spawnPacket = handler.getSpawnPacket(this.armorStand);
+        Object metadataPacket = handler.getMetadataPacket(this.armorStand);
+        this.viewers.forEach(player -> {
+            handler.sendPacket(player, spawnPacket);
+            handler.sendPacket(player, metadataPacket);
+        });
+    }
+
+    /**
+     * Moves the text by its current motion and then applies
+     * gravity and drag to the motion, the same steps a falling
+     * entity goes through each tick. The new position is sent
+     * to every viewer with a single teleport packet.
+     * @param handler The NMS handler.
+     * @param gravity Downwards acceleration, per tick.
+     * @param drag Drag factor of the motion, per tick.
+     */
+    public void move(INMSHandler handler, double gravity, double drag) {
+        if (!this.moving) return;
+        this.x += this.motionX;
+        this.y += this.motionY;
+        this.z += this.motionZ;
+        this.motionX *= drag;
+        this.motionY = (this.motionY - gravity) * drag;
+        this.motionZ *= drag;
+
+        handler.setLocation(this.armorStand, this.x, this.y, this.z);
+        Object packet = handler.getTeleportPacket(this.armorStand);
+        for (int i = 0; i < this.viewers.size(); i++) {
+            Player player = this.viewers.get(i);
+            if (player.isOnline()) handler.sendPacket(player, packet);
+        }
+    }
+
+    /**
+     * Tells us whether or not the text moves.
+     * @return {@link Boolean}
+     */
+    public boolean isMoving() {
+        return this.moving;
+    }
+
+    /**
+     * Returns the fake armor stand
+     * displaying the text.
+     * @return {@link LivingEntity}
+     */
+    public LivingEntity getArmorStand() {
+        return this.armorStand;
+    }
+
+    /**
+     * Returns the players which
+     * have been sent the text.
+     * @return {@link List<Player>}
+     */
+    public List<Player> getViewers() {
+        return this.viewers;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.listener;
+
+import by.thmihnea.cache.HealthBarManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityRegainHealthEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+public class EntityHealthListener implements Listener {
+
+    /**
+     * Flags the health bar of a damaged entity.
+     * The health is read once the event has applied.
+     * @param e The event itself.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDamage(EntityDamageEvent e) {
+        HealthBarManager.markDirty(e.getEntity());
+    }
+
+    /**
+     * Flags the health bar of a healed entity.
+     * The health is read once the event has applied.
+     * @param e The event itself.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRegainHealth(EntityRegainHealthEvent e) {
+        HealthBarManager.markDirty(e.getEntity());
+    }
+
+    /**
+     * Drops the health bar of a dead entity.
+     * @param e The event itself.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(EntityDeathEvent e) {
+        HealthBarManager.unbind(e.getEntity());
+    }
+
+    /**
+     * Drops the health bars of every
+     * entity inside of an unloading chunk.
+     * @param e The event itself.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onChunkUnload(ChunkUnloadEvent e) {
+        HealthBarManager.unbindChunk(e.getChunk());
+    }
+}
@@ -1,6 +1,9 @@
 package by.thmihnea.listener;
 
 import by.thmihnea.NameTagAPI;
+import by.thmihnea.cache.PacketUpdateTaskManager;
+import by.thmihnea.cache.TagRegistry;
+import by.thmihnea.runnable.PacketUpdateTask;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -14,11 +17,19 @@ public class PlayerQuitListener implements Listener {
      * to the channel pipeline which monitors the packets
      * being sent between the server and the player.
      * We use this to prevent server overload.
+     * Every Name Tag line the player could see is dropped
+     * from the {@link TagRegistry} right away, along with its
+     * {@link PacketUpdateTask}, instead of waiting for each
+     * task to notice the player is offline.
      * @param e The event itself.
      */
     @EventHandler
     public void onQuit(PlayerQuitEvent e) {
         Player player = e.getPlayer();
+        TagRegistry.removeViewer(player).forEach(armorStand -> {
+            PacketUpdateTask packetUpdateTask = PacketUpdateTaskManager.removeEntry(armorStand);
+            if (packetUpdateTask != null) packetUpdateTask.clear();
+        });
         NameTagAPI.getNMSHandler().abortPipelineMonitoring(player);
         NameTagAPI.getInstance().logInfo("Player " + player.getName() + " has left. Aborting io.netty pipeline monitoring.");
     }
@@ -0,0 +1,75 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.runnable;
+
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.cache.AnimatedLineManager;
+import by.thmihnea.cache.DynamicLineManager;
+import by.thmihnea.cache.HealthBarManager;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+public class DynamicLineTask implements Runnable {
+
+    /**
+     * The bukkit task which
+     * helps us keeping track of the
+     * Runnable object.
+     */
+    private BukkitTask task;
+
+    /**
+     * Constructor for the Dynamic Line Task.
+     * A single instance of this task drives every line
+     * bound to a supplier and every animation, each at its
+     * own rate, and flushes the health bars which changed
+     * during the last tick.
+     */
+    public DynamicLineTask() {
+        this.task = Bukkit.getScheduler().runTaskTimer(NameTagAPI.getInstance(), this, 1L, 1L);
+    }
+
+    /**
+     * Inherited method from
+     * {@link Runnable} interface.
+     */
+    @Override
+    public void run() {
+        DynamicLineManager.tick();
+        AnimatedLineManager.tick();
+        HealthBarManager.flush();
+    }
+
+    /**
+     * Cancels the task.
+     */
+    public void clear() {
+        if (this.task != null) {
+            Bukkit.getScheduler().cancelTask(this.task.getTaskId());
+            this.task = null;
+        }
+    }
+}
@@ -21,11 +21,12 @@ SOFTWARE..
 
 package by.thmihnea.runnable;
 
-import by.thmihnea.EntityHitbox;
 import by.thmihnea.NameTagAPI;
-import by.thmihnea.cache.CacheManager;
-import by.thmihnea.cache.LineCacheManager;
+import by.thmihnea.cache.HostChunkManager;
 import by.thmihnea.cache.PacketUpdateTaskManager;
+import by.thmihnea.cache.TagOffsetManager;
+import by.thmihnea.cache.TagRegistry;
+import by.thmihnea.tag.TagHost;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
@@ -33,6 +34,7 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.lang.ref.WeakReference;
 import java.util.concurrent.CompletableFuture;
 
 public class PacketUpdateTask implements Runnable {
@@ -40,9 +42,10 @@ public class PacketUpdateTask implements Runnable {
     /**
      * Player for which we're
      * constructing the said {@link Runnable}
-     * object.
+     * object. Held weakly, so that a task which
+     * missed its cleanup can't keep the player reachable.
      */
-    private Player player;
+    private WeakReference<Player> player;
 
     /**
      * The {@link LivingEntity}, which is
@@ -53,9 +56,9 @@ public class PacketUpdateTask implements Runnable {
 
     /**
      * The entity which holds
-     * the said name tag.
+     * the said name tag. Held weakly as well.
      */
-    private Entity entity;
+    private WeakReference<Entity> entity;
 
     /**
      * The bukkit task which
@@ -79,6 +82,14 @@ public class PacketUpdateTask implements Runnable {
      */
     private boolean active;
 
+    /**
+     * Whether or not the armor stand has been destroyed
+     * for its player in favour of an aggregate tag. A paused
+     * task keeps the armor stand in place server-side, but
+     * sends nothing until it's resumed.
+     */
+    private volatile boolean paused;
+
     /**
      * Constructor for the Packet Update Task.
      * This class takes care of teleportation of
@@ -110,9 +121,9 @@ public class PacketUpdateTask implements Runnable {
      *                    around with multiple line coordinates.
      */
     public PacketUpdateTask(Player player, LivingEntity entityLiving, Entity entity, double additionalY) {
-        this.player = player;
+        this.player = new WeakReference<>(player);
         this.entityLiving = entityLiving;
-        this.entity = entity;
+        this.entity = new WeakReference<>(entity);
         this.additionalY = additionalY;
         this.active = true;
         this.task = Bukkit.getScheduler().runTaskTimer(NameTagAPI.getInstance(), this, 0L, 1L);
@@ -125,33 +136,40 @@ public class PacketUpdateTask implements Runnable {
      */
     @Override
     public void run() {
-        if (this.entity.getLocation().getChunk().isLoaded())
+        Player player = this.player.get();
+        Entity entity = this.entity.get();
+        if (entity != null && entity.getLocation().getChunk().isLoaded())
             this.active = true;
         if (!this.isActive()) return;
-        if (!(this.player.isOnline())) {
-            CacheManager.removePlayerFromCache(this.player);
-            LineCacheManager.removePlayerFromCache(this.player);
+        if (player == null || !player.isOnline()) {
+            if (player != null) TagRegistry.removeViewer(player);
             this.clear();
             return;
         }
-        if (this.entity.isDead() || this.entity == null) {
+        if (entity == null || entity.isDead()) {
             this.removeEntityFromCache();
             this.clear();
             return;
         }
-        if (!this.entity.getLocation().getChunk().isLoaded()) {
+        if (!entity.getLocation().getChunk().isLoaded()) {
             this.removeEntityFromCache();
             this.clear();
             return;
         }
-        Object teleportPacket = NameTagAPI.getNMSHandler().getTeleportPacket(this.entityLiving);
-
-        Location location = this.entity.getLocation();
-        final double y = location.getY() + EntityHitbox.getFromEntity(this.entity).getLocationModifier().getY() + this.additionalY;
+        Location location = entity.getLocation();
+        TagHost host = TagRegistry.getHost(entity);
+        if (host != null && host.claimChunkCheck(NameTagAPI.getNMSHandler().getCurrentTick()))
+            HostChunkManager.update(host, location);
+        final double y = location.getY() + TagOffsetManager.getOffsetY(entity) + this.additionalY;
         Location finalLocation = new Location(location.getWorld(), location.getX(), y, location.getZ(), location.getYaw(), location.getPitch());
+        if (this.paused) {
+            this.entityLiving.teleport(finalLocation);
+            return;
+        }
 
+        Object teleportPacket = NameTagAPI.getNMSHandler().getTeleportPacket(this.entityLiving);
         this.entityLiving.teleport(finalLocation);
-        NameTagAPI.getNMSHandler().sendPacket(this.player, teleportPacket);
+        NameTagAPI.getNMSHandler().sendPacket(player, teleportPacket);
     }
 
     /**
@@ -160,9 +178,12 @@ public class PacketUpdateTask implements Runnable {
      * deleting the {@link PacketUpdateTask} object.
      * Ths makes the object go faster towards to
      * Garbage Collector, as it makes Bukkit completely
-     * stop using it.
+     * stop using it. The task is also dropped from the
+     * {@link PacketUpdateTaskManager}, unless another task has
+     * already taken its place.
      */
     public void clear() {
+        PacketUpdateTaskManager.removeEntry(this);
         if (this.task != null) {
             Bukkit.getScheduler().cancelTask(task.getTaskId());
             this.task = null;
@@ -178,15 +199,37 @@ public class PacketUpdateTask implements Runnable {
      * when the entity is completely dead.
      */
     public void removeEntityFromCache() {
+        Player player = this.player.get();
+        Entity entity = this.entity.get();
         CompletableFuture.runAsync(() -> {
+            if (player == null) return;
             Object destroyPacket = NameTagAPI.getNMSHandler().getDestroyPacket(this.entityLiving);
-            NameTagAPI.getNMSHandler().sendPacket(this.player, destroyPacket);
+            NameTagAPI.getNMSHandler().sendPacket(player, destroyPacket);
         }).thenRun(() -> {
-            CacheManager.removeEntityFromCache(this.entity);
-            LineCacheManager.removeEntityFromCache(this.entity);
+            if (entity != null) TagRegistry.removeHost(entity);
         });
     }
 
+    /**
+     * Returns the armor stand
+     * this task keeps in place.
+     * @return {@link LivingEntity}
+     */
+    public LivingEntity getEntityLiving() {
+        return this.entityLiving;
+    }
+
+    /**
+     * Pauses or resumes the task. While paused, the armor
+     * stand keeps following its entity server-side, so that it
+     * can be spawned back at the right place, but no teleport
+     * packets are sent.
+     * @param paused Whether or not the task should be paused.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
     /**
      * Returns if the PacketUpdateTask itself is active
      * and should be running on the server.
@@ -0,0 +1,96 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.runnable;
+
+import by.thmihnea.NameTagAPI;
+import by.thmihnea.cache.HealthBarManager;
+import by.thmihnea.cache.PacketUpdateTaskManager;
+import by.thmihnea.cache.TagRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RegistrySweepTask implements Runnable {
+
+    /**
+     * How often, in ticks, the registry
+     * should be swept.
+     */
+    public static final long INTERVAL = 600L;
+
+    /**
+     * The bukkit task which
+     * helps us keeping track of the
+     * Runnable object.
+     */
+    private BukkitTask task;
+
+    /**
+     * Constructor for the Registry Sweep Task.
+     * Name Tags are normally cleaned up as soon as their
+     * entity dies or their viewer leaves. This task is only
+     * a safety net for anything which missed that cleanup,
+     * so it runs once every {@link #INTERVAL} ticks.
+     */
+    public RegistrySweepTask() {
+        this.task = Bukkit.getScheduler().runTaskTimer(NameTagAPI.getInstance(), this, INTERVAL, INTERVAL);
+    }
+
+    /**
+     * Inherited method from
+     * {@link Runnable} interface.
+     */
+    @Override
+    public void run() {
+        TagRegistry.sweep().forEach(armorStand -> {
+            PacketUpdateTask packetUpdateTask = PacketUpdateTaskManager.removeEntry(armorStand);
+            if (packetUpdateTask != null) packetUpdateTask.clear();
+        });
+
+        // Snapshot the tasks first and only query the registry once the
+        // task lock is released, keeping the registry-then-side-cache order.
+        List<PacketUpdateTask> tasks = new ArrayList<>(PacketUpdateTaskManager.size());
+        PacketUpdateTaskManager.forEachTask(tasks::add);
+        for (PacketUpdateTask packetUpdateTask : tasks) {
+            if (TagRegistry.getOwner(packetUpdateTask.getEntityLiving().getEntityId()) == null)
+                packetUpdateTask.clear();
+        }
+
+        HealthBarManager.sweep();
+    }
+
+    /**
+     * Cancels the task.
+     */
+    public void clear() {
+        if (this.task != null) {
+            Bukkit.getScheduler().cancelTask(this.task.getTaskId());
+            this.task = null;
+        }
+    }
+}
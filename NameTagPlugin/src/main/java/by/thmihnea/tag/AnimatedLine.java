@@ -0,0 +1,127 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.tag;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.cache.ColorCacheManager;
+import org.bukkit.entity.Entity;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+public class AnimatedLine {
+
+    /**
+     * The entity holding the line.
+     * Held weakly, like everything else in the registry.
+     */
+    private final WeakReference<Entity> entity;
+
+    /**
+     * The line number which is animated.
+     */
+    private final int line;
+
+    /**
+     * Every frame, compiled once into the object
+     * a custom name is stored as on this version.
+     */
+    private final Object[] frames;
+
+    /**
+     * How long, in ticks, each
+     * frame is shown for.
+     */
+    private final int interval;
+
+    /**
+     * The frame currently shown.
+     */
+    private int frame;
+
+    /**
+     * Ticks left until the next frame.
+     */
+    private int countdown;
+
+    /**
+     * Constructor for an animated line.
+     * @param handler The NMS handler, compiling the frames.
+     * @param entity The entity holding the line.
+     * @param line The line number.
+     * @param frames The raw text of each frame.
+     * @param interval How long, in ticks, each
+     *                 frame is shown for.
+     */
+    public AnimatedLine(INMSHandler handler, Entity entity, int line, List<String> frames, int interval) {
+        if (frames.isEmpty()) throw new IllegalArgumentException("An animated line needs at least one frame.");
+        this.entity = new WeakReference<>(entity);
+        this.line = line;
+        this.frames = new Object[frames.size()];
+        for (int i = 0; i < this.frames.length; i++)
+            this.frames[i] = handler.compileName(ColorCacheManager.translate(frames.get(i)));
+        this.interval = Math.max(1, interval);
+        this.frame = this.frames.length - 1;
+        this.countdown = 1;
+    }
+
+    /**
+     * Advances the animation by a tick. Once the interval has
+     * passed, the next compiled frame is set on each viewer's
+     * armor stand and sent, nothing being rebuilt. Viewers who
+     * already see the current frame are skipped.
+     * @param handler The NMS handler.
+     * @return {@link Boolean} False once the entity is gone
+     *         and the animation should be dropped.
+     */
+    public boolean tick(INMSHandler handler) {
+        Entity entity = this.entity.get();
+        if (entity == null || !entity.isValid()) return false;
+        if (--this.countdown > 0) return true;
+        this.countdown = this.interval;
+        this.frame = (this.frame + 1) % this.frames.length;
+
+        TagLines.push(handler, entity, this.line, this.frames[this.frame]);
+        return true;
+    }
+
+    /**
+     * Returns the line number
+     * which is animated.
+     * @return {@link Integer}
+     */
+    public int getLine() {
+        return this.line;
+    }
+
+    /**
+     * Returns the amount of frames.
+     * @return {@link Integer}
+     */
+    public int getFrameCount() {
+        return this.frames.length;
+    }
+}
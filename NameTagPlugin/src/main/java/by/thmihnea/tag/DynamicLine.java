@@ -0,0 +1,119 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.tag;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.cache.ColorCacheManager;
+import org.bukkit.entity.Entity;
+
+import java.lang.ref.WeakReference;
+import java.util.function.Supplier;
+
+public class DynamicLine {
+
+    /**
+     * The entity holding the line.
+     * Held weakly, like everything else in the registry.
+     */
+    private final WeakReference<Entity> entity;
+
+    /**
+     * The line number which is bound.
+     */
+    private final int line;
+
+    /**
+     * Supplies the raw text of the line.
+     */
+    private final Supplier<String> supplier;
+
+    /**
+     * How often, in ticks, the supplier
+     * should be evaluated.
+     */
+    private final int period;
+
+    /**
+     * Ticks left until the next
+     * evaluation of the supplier.
+     */
+    private int countdown;
+
+    /**
+     * Constructor for a line bound to a supplier.
+     * @param entity The entity holding the line.
+     * @param line The line number.
+     * @param supplier Supplies the raw text of the line.
+     * @param period How often, in ticks, the supplier
+     *               should be evaluated.
+     */
+    public DynamicLine(Entity entity, int line, Supplier<String> supplier, int period) {
+        this.entity = new WeakReference<>(entity);
+        this.line = line;
+        this.supplier = supplier;
+        this.period = Math.max(1, period);
+        this.countdown = 1;
+    }
+
+    /**
+     * Advances the line by a tick. Once its period has passed,
+     * the supplier is evaluated a single time for every viewer
+     * and a metadata packet is sent only to the viewers whose
+     * armor stand doesn't already show the rendered text.
+     * @param handler The NMS handler.
+     * @return {@link Boolean} False once the entity is gone
+     *         and the binding should be dropped.
+     */
+    public boolean tick(INMSHandler handler) {
+        Entity entity = this.entity.get();
+        if (entity == null || !entity.isValid()) return false;
+        if (--this.countdown > 0) return true;
+        this.countdown = this.period;
+
+        String raw = this.supplier.get();
+        if (raw == null) return true;
+        TagLines.push(handler, entity, this.line, handler.compileName(ColorCacheManager.translate(raw)));
+        return true;
+    }
+
+    /**
+     * Returns the line number
+     * which is bound.
+     * @return {@link Integer}
+     */
+    public int getLine() {
+        return this.line;
+    }
+
+    /**
+     * Returns how often, in ticks, the
+     * supplier is evaluated.
+     * @return {@link Integer}
+     */
+    public int getPeriod() {
+        return this.period;
+    }
+}
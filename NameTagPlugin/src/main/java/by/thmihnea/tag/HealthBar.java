@@ -0,0 +1,117 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.tag;
+
+import by.thmihnea.INMSHandler;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+
+import java.lang.ref.WeakReference;
+
+public class HealthBar {
+
+    /**
+     * Format used when no other format is given,
+     * filled in with the current and maximum health.
+     */
+    public static final String DEFAULT_FORMAT = "&c{hp}&7/&c{max} &4\u2764";
+
+    /**
+     * The entity whose health is shown.
+     * Held weakly, like everything else in the registry.
+     */
+    private final WeakReference<LivingEntity> entity;
+
+    /**
+     * The line number showing the health.
+     */
+    private final int line;
+
+    /**
+     * The compiled format of the line.
+     */
+    private final TagTemplate template;
+
+    /**
+     * Indexes of the health slots
+     * inside of the template.
+     */
+    private final int hpSlot;
+    private final int maxSlot;
+
+    /**
+     * Constructor for a health bar line.
+     * @param entity The entity whose health is shown.
+     * @param line The line number.
+     * @param format The format of the line, with {hp}
+     *               and {max} as the health slots.
+     */
+    public HealthBar(LivingEntity entity, int line, String format) {
+        this.entity = new WeakReference<>(entity);
+        this.line = line;
+        this.template = TagTemplate.compile(format == null ? DEFAULT_FORMAT : format);
+        this.hpSlot = this.template.getSlot("hp");
+        this.maxSlot = this.template.getSlot("max");
+    }
+
+    /**
+     * Reads the entity's current health and sends the line
+     * to every viewer who isn't already seeing it.
+     * Health is rounded up, so a living mob never shows 0.
+     * @param handler The NMS handler.
+     * @return {@link Boolean} False once the entity is gone
+     *         and the health bar should be dropped.
+     */
+    // getMaxHealth is deprecated, but it's the only max health accessor 1.8 has.
+    @SuppressWarnings("deprecation")
+    public boolean update(INMSHandler handler) {
+        LivingEntity entity = this.entity.get();
+        if (entity == null || !entity.isValid()) return false;
+        if (this.hpSlot != -1) this.template.set(this.hpSlot, (long) Math.ceil(entity.getHealth()));
+        if (this.maxSlot != -1) this.template.set(this.maxSlot, (long) Math.ceil(entity.getMaxHealth()));
+        TagLines.push(handler, entity, this.line, handler.compileName(this.template.render()));
+        return true;
+    }
+
+    /**
+     * Returns whether the entity whose
+     * health is shown is still around.
+     * @return {@link Boolean}
+     */
+    public boolean isValid() {
+        LivingEntity entity = this.entity.get();
+        return entity != null && entity.isValid();
+    }
+
+    /**
+     * Returns the line number
+     * showing the health.
+     * @return {@link Integer}
+     */
+    public int getLine() {
+        return this.line;
+    }
+}
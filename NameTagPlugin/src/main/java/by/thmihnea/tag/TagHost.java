@@ -0,0 +1,215 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.tag;
+
+import by.thmihnea.util.IntObjectMap;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class TagHost {
+
+    /**
+     * The entity which holds
+     * the Name Tag. Held weakly, so that a host
+     * which missed its cleanup can't keep the
+     * entity, and its world, reachable.
+     */
+    private final WeakReference<Entity> entity;
+
+    /**
+     * Cached entity id of the host.
+     */
+    private final int entityId;
+
+    /**
+     * Cached unique id of the host.
+     */
+    private final UUID uniqueId;
+
+    /**
+     * The world and the packed chunk key (see
+     * {@link by.thmihnea.util.ChunkKey}) under which the host
+     * is currently kept in the
+     * {@link by.thmihnea.cache.HostChunkManager}, or null and 0.
+     * Written under the index's lock, but read without it.
+     */
+    private volatile UUID worldId;
+    private volatile long chunkKey;
+
+    /**
+     * The server tick during which the host's chunk
+     * was last checked. Only touched on the main thread.
+     */
+    private int checkedTick = -1;
+
+    /**
+     * The lines of the Name Tag, as seen by each
+     * viewer, pointed at by the viewer's slot.
+     * Line number 0 is the actual Name Tag.
+     */
+    private final IntObjectMap<List<LivingEntity>> lines = new IntObjectMap<>(4);
+
+    /**
+     * The variants of a localized Name Tag, pointed at by
+     * their lower-case locale, or null if the Name Tag isn't
+     * localized. Kept so that line number 0 can be resolved
+     * again whenever a viewer's locale changes.
+     */
+    private volatile Map<String, String> variants;
+
+    /**
+     * Constructor for a tagged entity.
+     * @param entity The entity which holds
+     *               the Name Tag.
+     */
+    public TagHost(Entity entity) {
+        this.entity = new WeakReference<>(entity);
+        this.entityId = entity.getEntityId();
+        this.uniqueId = entity.getUniqueId();
+    }
+
+    /**
+     * Returns the entity which holds the Name Tag,
+     * or null if it has already been garbage collected.
+     * @return {@link Entity}
+     */
+    public Entity getEntity() {
+        return this.entity.get();
+    }
+
+    /**
+     * Returns whether or not the entity
+     * holding the Name Tag is still alive.
+     * @return {@link Boolean}
+     */
+    public boolean isValid() {
+        Entity entity = this.entity.get();
+        return entity != null && entity.isValid();
+    }
+
+    /**
+     * Returns the entity id
+     * of the host.
+     * @return {@link Integer}
+     */
+    public int getEntityId() {
+        return this.entityId;
+    }
+
+    /**
+     * Returns the unique id
+     * of the host.
+     * @return {@link UUID}
+     */
+    public UUID getUniqueId() {
+        return this.uniqueId;
+    }
+
+    /**
+     * Returns the variants of the localized
+     * Name Tag, or null if it isn't localized.
+     * @return {@link Map}
+     */
+    public Map<String, String> getVariants() {
+        return this.variants;
+    }
+
+    /**
+     * Sets the variants of the localized Name Tag.
+     * @param variants The variants, pointed at by
+     *                 their lower-case locale.
+     */
+    public void setVariants(Map<String, String> variants) {
+        this.variants = variants;
+    }
+
+    /**
+     * Returns the world the host is
+     * currently indexed under, or null.
+     * @return {@link UUID}
+     */
+    public UUID getWorldId() {
+        return this.worldId;
+    }
+
+    /**
+     * Returns the packed chunk key the
+     * host is currently indexed under.
+     * @return {@link Long}
+     */
+    public long getChunkKey() {
+        return this.chunkKey;
+    }
+
+    /**
+     * Sets the chunk the host is
+     * currently indexed under.
+     * @param worldId The world, or null.
+     * @param chunkKey The packed chunk key.
+     */
+    public void setChunk(UUID worldId, long chunkKey) {
+        this.worldId = worldId;
+        this.chunkKey = chunkKey;
+    }
+
+    /**
+     * Claims the chunk check of the host for a certain
+     * server tick, so that the host is checked once per
+     * tick no matter how many lines and viewers it has.
+     * @param tick The current server tick.
+     * @return {@link Boolean} False if the host has
+     *         already been checked during this tick.
+     */
+    public boolean claimChunkCheck(int tick) {
+        if (this.checkedTick == tick) return false;
+        this.checkedTick = tick;
+        return true;
+    }
+
+    /**
+     * Returns the lines of every viewer,
+     * pointed at by the viewer's slot.
+     * @return {@link IntObjectMap}
+     */
+    public IntObjectMap<List<LivingEntity>> getLines() {
+        return this.lines;
+    }
+
+    /**
+     * Returns the lines a certain viewer
+     * can see, or null.
+     * @param slot The slot of the viewer.
+     * @return {@link List<LivingEntity>}
+     */
+    public List<LivingEntity> getLines(int slot) {
+        return this.lines.get(slot);
+    }
+}
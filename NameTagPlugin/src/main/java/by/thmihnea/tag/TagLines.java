@@ -0,0 +1,88 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.tag;
+
+import by.thmihnea.INMSHandler;
+import by.thmihnea.cache.TagRegistry;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+
+public final class TagLines {
+
+    /**
+     * Utility class, no instances.
+     */
+    private TagLines() {
+    }
+
+    /**
+     * Packs an entity id and a line number into a single
+     * primitive {@link Long}, so that bound lines can be
+     * used as map keys without allocating any wrappers.
+     * @param entityId The entity id.
+     * @param line The line number.
+     * @return {@link Long}
+     */
+    public static long getKey(int entityId, int line) {
+        return (long) entityId << 32 | (line & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Unpacks the entity id out of a key
+     * made by {@link #getKey(int, int)}.
+     * @param key The packed key.
+     * @return {@link Integer}
+     */
+    public static int getEntityId(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Sends a compiled name to every viewer of an entity whose
+     * armor stand doesn't already hold it, as a single metadata
+     * packet each. The armor stand itself is compared against,
+     * so lines replaced through setLine or setLines are
+     * never mistaken for up to date.
+     * @param handler The NMS handler.
+     * @param entity The entity holding the line.
+     * @param line The line number.
+     * @param name The compiled name.
+     */
+    public static void push(INMSHandler handler, Entity entity, int line, Object name) {
+        List<Player> viewers = TagRegistry.getViewers(entity);
+        for (int i = 0; i < viewers.size(); i++) {
+            Player player = viewers.get(i);
+            LivingEntity armorStand = TagRegistry.getLine(entity, player, line);
+            if (armorStand == null) continue;
+            if (name.equals(handler.getCompiledName(armorStand))) continue;
+            handler.setCompiledName(armorStand, name);
+            handler.sendPacket(player, handler.getMetadataPacket(armorStand));
+        }
+    }
+}
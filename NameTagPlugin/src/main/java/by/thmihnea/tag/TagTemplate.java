@@ -0,0 +1,183 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.tag;
+
+import by.thmihnea.cache.ColorCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TagTemplate {
+
+    /**
+     * The static text in between the slots, color
+     * codes already translated. There is always one
+     * more segment than there are slots.
+     */
+    private final String[] segments;
+
+    /**
+     * The names of the slots, in the
+     * order they appear in.
+     */
+    private final String[] slots;
+
+    /**
+     * The current value of each slot.
+     */
+    private final long[] values;
+
+    /**
+     * The builder every render is written into,
+     * reused between renders.
+     */
+    private final StringBuilder builder;
+
+    /**
+     * The output of the last render.
+     */
+    private String last;
+
+    /**
+     * Whether or not a slot has changed
+     * since the last render.
+     */
+    private boolean dirty;
+
+    /**
+     * Constructor for a compiled template.
+     * Use {@link #compile(String)} instead.
+     * @param segments The static segments.
+     * @param slots The names of the slots.
+     */
+    private TagTemplate(String[] segments, String[] slots) {
+        this.segments = segments;
+        this.slots = slots;
+        this.values = new long[slots.length];
+        int length = 0;
+        for (String segment : segments) length += segment.length();
+        this.builder = new StringBuilder(length + slots.length * 20);
+        this.dirty = true;
+    }
+
+    /**
+     * Compiles a template such as "&c{hp}/{max} &7Lv{lvl}".
+     * The color codes of the static text are translated once,
+     * here, and every {name} becomes a numeric slot. Slots
+     * start out at 0.
+     * @param text The raw template.
+     * @return {@link TagTemplate}
+     */
+    public static TagTemplate compile(String text) {
+        String translated = ColorCacheManager.translate(text);
+        List<String> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = translated.indexOf('{', start)) != -1) {
+            int close = translated.indexOf('}', open + 1);
+            if (close == -1) break;
+            segments.add(translated.substring(start, open));
+            slots.add(translated.substring(open + 1, close));
+            start = close + 1;
+        }
+        segments.add(translated.substring(start));
+        return new TagTemplate(segments.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the index of a slot, to be used with
+     * {@link #set(int, long)}, or -1 if the template
+     * has no slot of that name.
+     * @param name The name of the slot.
+     * @return {@link Integer}
+     */
+    public int getSlot(String name) {
+        for (int i = 0; i < this.slots.length; i++)
+            if (this.slots[i].equals(name)) return i;
+        return -1;
+    }
+
+    /**
+     * Changes the value of a slot. Nothing
+     * happens if the value hasn't changed.
+     * @param slot The index of the slot.
+     * @param value The new value.
+     * @return {@link TagTemplate} This template.
+     */
+    public TagTemplate set(int slot, long value) {
+        if (this.values[slot] != value) {
+            this.values[slot] = value;
+            this.dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Changes the value of a slot, by its name.
+     * Prefer {@link #set(int, long)} on hot paths.
+     * @param name The name of the slot.
+     * @param value The new value.
+     * @return {@link TagTemplate} This template.
+     */
+    public TagTemplate set(String name, long value) {
+        int slot = this.getSlot(name);
+        if (slot == -1) throw new IllegalArgumentException("Unknown template slot: " + name);
+        return this.set(slot, value);
+    }
+
+    /**
+     * Renders the template. Only the slots are written,
+     * next to the precompiled segments, into a reused builder.
+     * When no slot has changed since the last render, the very
+     * same {@link String} is returned and nothing is allocated,
+     * which also keeps the translation and component caches
+     * hitting on it.
+     * Templates aren't thread-safe, so keep each one to a
+     * single thread, usually the main thread.
+     * @return {@link String}
+     */
+    public String render() {
+        if (!this.dirty) return this.last;
+        StringBuilder builder = this.builder;
+        builder.setLength(0);
+        builder.append(this.segments[0]);
+        for (int i = 0; i < this.slots.length; i++)
+            builder.append(this.values[i]).append(this.segments[i + 1]);
+        this.last = builder.toString();
+        this.dirty = false;
+        return this.last;
+    }
+
+    /**
+     * Returns the amount of slots
+     * in the template.
+     * @return {@link Integer}
+     */
+    public int getSlotCount() {
+        return this.slots.length;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.tag;
+
+import by.thmihnea.util.IntObjectMap;
+import org.bukkit.entity.Player;
+
+import java.lang.ref.WeakReference;
+import java.util.UUID;
+
+public class TagViewer {
+
+    /**
+     * The slot of the viewer. Slots are small
+     * numbers handed out by the {@link by.thmihnea.cache.TagRegistry}
+     * and re-used after a player leaves.
+     */
+    private final int slot;
+
+    /**
+     * The player itself. Held weakly, so that a
+     * viewer which missed its cleanup can't keep the
+     * whole player object reachable.
+     */
+    private final WeakReference<Player> player;
+
+    /**
+     * Cached entity id of the player,
+     * which is the viewer's key.
+     */
+    private final int entityId;
+
+    /**
+     * Cached unique id of the player.
+     */
+    private final UUID uniqueId;
+
+    /**
+     * Every tagged entity this player can see
+     * at least one line of, pointed at by the
+     * host's entity id.
+     */
+    private final IntObjectMap<TagHost> hosts = new IntObjectMap<>();
+
+    /**
+     * Constructor for a viewer.
+     * @param slot The slot of the viewer.
+     * @param player The player itself.
+     */
+    public TagViewer(int slot, Player player) {
+        this.slot = slot;
+        this.player = new WeakReference<>(player);
+        this.entityId = player.getEntityId();
+        this.uniqueId = player.getUniqueId();
+    }
+
+    /**
+     * Returns the slot of the viewer.
+     * @return {@link Integer}
+     */
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * Returns the player itself, or null if it
+     * has already been garbage collected.
+     * @return {@link Player}
+     */
+    public Player getPlayer() {
+        return this.player.get();
+    }
+
+    /**
+     * Returns the entity id
+     * of the player.
+     * @return {@link Integer}
+     */
+    public int getEntityId() {
+        return this.entityId;
+    }
+
+    /**
+     * Returns the unique id
+     * of the player.
+     * @return {@link UUID}
+     */
+    public UUID getUniqueId() {
+        return this.uniqueId;
+    }
+
+    /**
+     * Returns whether or not the
+     * player is still online.
+     * @return {@link Boolean}
+     */
+    public boolean isOnline() {
+        Player player = this.player.get();
+        return player != null && player.isOnline();
+    }
+
+    /**
+     * Returns every tagged entity this
+     * player can see, pointed at by the host's
+     * entity id.
+     * @return {@link IntObjectMap}
+     */
+    public IntObjectMap<TagHost> getHosts() {
+        return this.hosts;
+    }
+}
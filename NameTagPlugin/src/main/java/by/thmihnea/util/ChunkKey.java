@@ -0,0 +1,82 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.util;
+
+import org.bukkit.Location;
+
+public final class ChunkKey {
+
+    /**
+     * Utility class, no instances.
+     */
+    private ChunkKey() {
+    }
+
+    /**
+     * Packs a pair of chunk coordinates into a
+     * single primitive {@link Long}, so that chunks can be used
+     * as map keys without allocating any wrapper objects.
+     * The X coordinate is kept in the upper 32 bits and the
+     * Z coordinate in the lower 32 bits.
+     * @param x Chunk X coordinate.
+     * @param z Chunk Z coordinate.
+     * @return {@link Long}
+     */
+    public static long pack(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the packed chunk key of the chunk
+     * containing a certain {@link Location}, without
+     * loading or even touching the chunk itself.
+     * @param location Location to look up for.
+     * @return {@link Long}
+     */
+    public static long of(Location location) {
+        return pack(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Unpacks the chunk X coordinate out of
+     * a packed chunk key.
+     * @param key The packed key.
+     * @return {@link Integer}
+     */
+    public static int getX(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Unpacks the chunk Z coordinate out of
+     * a packed chunk key.
+     * @param key The packed key.
+     * @return {@link Integer}
+     */
+    public static int getZ(long key) {
+        return (int) key;
+    }
+}
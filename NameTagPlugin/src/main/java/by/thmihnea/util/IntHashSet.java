@@ -0,0 +1,241 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+public class IntHashSet {
+
+    /**
+     * Key used for marking a free bucket. Whether or
+     * not this value belongs to the set is kept track
+     * of separately.
+     */
+    private static final int FREE = 0;
+
+    /**
+     * Load factor past which the
+     * table is being doubled.
+     */
+    private static final float LOAD_FACTOR = 0.5F;
+
+    /**
+     * The table itself.
+     */
+    private int[] keys;
+
+    /**
+     * Mask used for wrapping indexes around,
+     * as the capacity is always a power of two.
+     */
+    private int mask;
+
+    /**
+     * Number of values stored in the table,
+     * not counting the {@link #FREE} value.
+     */
+    private int size;
+
+    /**
+     * Whether or not the {@link #FREE}
+     * value belongs to the set.
+     */
+    private boolean hasFreeKey;
+
+    /**
+     * Constructor for an empty set.
+     */
+    public IntHashSet() {
+        this(16);
+    }
+
+    /**
+     * Constructor for an empty set, sized
+     * for a certain amount of values.
+     * An open addressing, linear probing table of primitive
+     * ints: adding, removing and looking up values are O(1)
+     * and never box anything.
+     * @param expected Expected amount of values.
+     */
+    public IntHashSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expected / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds a value to the set.
+     * @param value The value.
+     * @return {@link Boolean} Whether or not the value
+     *         has actually been added.
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            if (this.hasFreeKey) return false;
+            this.hasFreeKey = true;
+            return true;
+        }
+        int index = IntObjectMap.mix(value) & this.mask;
+        while (true) {
+            int current = this.keys[index];
+            if (current == value) return false;
+            if (current == FREE) {
+                this.keys[index] = value;
+                if (++this.size > this.keys.length * LOAD_FACTOR) this.rehash(this.keys.length << 1);
+                return true;
+            }
+            index = (index + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Returns whether or not a value
+     * belongs to the set.
+     * @param value The value.
+     * @return {@link Boolean}
+     */
+    public boolean contains(int value) {
+        if (value == FREE) return this.hasFreeKey;
+        int index = IntObjectMap.mix(value) & this.mask;
+        while (true) {
+            int current = this.keys[index];
+            if (current == value) return true;
+            if (current == FREE) return false;
+            index = (index + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Removes a value from the set, shifting back the
+     * following values of its probe sequence so that no
+     * tombstones are left behind.
+     * @param value The value.
+     * @return {@link Boolean} Whether or not the value
+     *         has actually been removed.
+     */
+    public boolean remove(int value) {
+        if (value == FREE) {
+            if (!this.hasFreeKey) return false;
+            this.hasFreeKey = false;
+            return true;
+        }
+        int index = IntObjectMap.mix(value) & this.mask;
+        while (true) {
+            int current = this.keys[index];
+            if (current == FREE) return false;
+            if (current == value) {
+                this.shiftKeys(index);
+                this.size--;
+                return true;
+            }
+            index = (index + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Calls the consumer for every single value
+     * of the set, without boxing anything.
+     * @param consumer The consumer.
+     */
+    public void forEach(IntConsumer consumer) {
+        if (this.hasFreeKey) consumer.accept(FREE);
+        for (int key : this.keys) {
+            if (key != FREE) consumer.accept(key);
+        }
+    }
+
+    /**
+     * Removes every value of the set,
+     * keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, FREE);
+        this.hasFreeKey = false;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of values.
+     * @return {@link Integer}
+     */
+    public int size() {
+        return this.size + (this.hasFreeKey ? 1 : 0);
+    }
+
+    /**
+     * Returns whether or not
+     * the set is empty.
+     * @return {@link Boolean}
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Closes the gap left by a removed value by moving
+     * back every following value whose probe sequence
+     * passes through the freed bucket.
+     * @param index Index of the removed value.
+     */
+    private void shiftKeys(int index) {
+        int last;
+        int slot;
+        while (true) {
+            last = index;
+            index = (index + 1) & this.mask;
+            while (true) {
+                int current = this.keys[index];
+                if (current == FREE) {
+                    this.keys[last] = FREE;
+                    return;
+                }
+                slot = IntObjectMap.mix(current) & this.mask;
+                if (last <= index ? (last >= slot || slot > index) : (last >= slot && slot > index)) break;
+                index = (index + 1) & this.mask;
+            }
+            this.keys[last] = this.keys[index];
+        }
+    }
+
+    /**
+     * Doubles the table, re-inserting
+     * every single value.
+     * @param capacity The new capacity.
+     */
+    private void rehash(int capacity) {
+        int[] oldKeys = this.keys;
+        this.keys = new int[capacity];
+        this.mask = capacity - 1;
+        for (int key : oldKeys) {
+            if (key == FREE) continue;
+            int index = IntObjectMap.mix(key) & this.mask;
+            while (this.keys[index] != FREE)
+                index = (index + 1) & this.mask;
+            this.keys[index] = key;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.util;
+
+import java.util.Arrays;
+
+public class IntList {
+
+    /**
+     * The values of the list. Only the
+     * first {@link #size} ones are in use.
+     */
+    private int[] values;
+
+    /**
+     * Number of values stored in the list.
+     */
+    private int size;
+
+    /**
+     * Constructor for an empty list.
+     */
+    public IntList() {
+        this(16);
+    }
+
+    /**
+     * Constructor for an empty list, sized
+     * for a certain amount of values.
+     * A growable array of primitive ints, which keeps
+     * its capacity when cleared so that it can be reused
+     * without boxing or re-allocating anything.
+     * @param expected Expected amount of values.
+     */
+    public IntList(int expected) {
+        this.values = new int[Math.max(4, expected)];
+    }
+
+    /**
+     * Appends a value to the list,
+     * doubling its capacity if needed.
+     * @param value The value.
+     */
+    public void add(int value) {
+        if (this.size == this.values.length)
+            this.values = Arrays.copyOf(this.values, this.size << 1);
+        this.values[this.size++] = value;
+    }
+
+    /**
+     * Returns the value at a certain index.
+     * @param index The index.
+     * @return {@link Integer}
+     */
+    public int get(int index) {
+        if (index >= this.size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size + ".");
+        return this.values[index];
+    }
+
+    /**
+     * Copies the values into an array
+     * of the exact size of the list.
+     * @return {@link int[]}
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(this.values, this.size);
+    }
+
+    /**
+     * Removes every value of the list,
+     * keeping its capacity.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of values.
+     * @return {@link Integer}
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether or not
+     * the list is empty.
+     * @return {@link Boolean}
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+}
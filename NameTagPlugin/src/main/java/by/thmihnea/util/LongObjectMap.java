@@ -0,0 +1,330 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+public class LongObjectMap<V> {
+
+    /**
+     * Key used for marking a free bucket. Entries having
+     * this key are stored outside of the table.
+     */
+    private static final long FREE = 0L;
+
+    /**
+     * Load factor past which the
+     * table is being doubled.
+     */
+    private static final float LOAD_FACTOR = 0.5F;
+
+    /**
+     * The keys of the table.
+     */
+    private long[] keys;
+
+    /**
+     * The values of the table, stored
+     * at the same index as their keys.
+     */
+    private Object[] values;
+
+    /**
+     * Mask used for wrapping indexes around,
+     * as the capacity is always a power of two.
+     */
+    private int mask;
+
+    /**
+     * Number of entries stored in the table,
+     * not counting the {@link #FREE} key.
+     */
+    private int size;
+
+    /**
+     * Whether or not the {@link #FREE} key is
+     * mapped, and its value.
+     */
+    private boolean hasFreeKey;
+    private V freeValue;
+
+    /**
+     * Constructor for an empty map.
+     */
+    public LongObjectMap() {
+        this(16);
+    }
+
+    /**
+     * Constructor for an empty map, sized
+     * for a certain amount of entries.
+     * An open addressing, linear probing table of primitive
+     * long keys: lookups never box the key and never chase
+     * pointers through entry objects.
+     * @param expected Expected amount of entries.
+     */
+    public LongObjectMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expected / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the value mapped to
+     * a certain key, or null.
+     * @param key The key to look up for.
+     * @return {@link V}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == FREE) return this.hasFreeKey ? this.freeValue : null;
+        int index = mix(key) & this.mask;
+        while (true) {
+            long current = this.keys[index];
+            if (current == key) return (V) this.values[index];
+            if (current == FREE) return null;
+            index = (index + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Returns whether or not a certain
+     * key is mapped.
+     * @param key The key to look up for.
+     * @return {@link Boolean}
+     */
+    public boolean containsKey(long key) {
+        if (key == FREE) return this.hasFreeKey;
+        int index = mix(key) & this.mask;
+        while (true) {
+            long current = this.keys[index];
+            if (current == key) return true;
+            if (current == FREE) return false;
+            index = (index + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Maps a value to a certain key.
+     * @param key The key.
+     * @param value The value, which can't be null.
+     * @return {@link V} The previous value, or null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) throw new IllegalArgumentException("Null values aren't supported.");
+        if (key == FREE) {
+            V previous = this.freeValue;
+            if (!this.hasFreeKey) this.size++;
+            this.hasFreeKey = true;
+            this.freeValue = value;
+            return previous;
+        }
+        int index = mix(key) & this.mask;
+        while (true) {
+            long current = this.keys[index];
+            if (current == key) {
+                V previous = (V) this.values[index];
+                this.values[index] = value;
+                return previous;
+            }
+            if (current == FREE) {
+                this.keys[index] = key;
+                this.values[index] = value;
+                if (++this.size > this.keys.length * LOAD_FACTOR) this.rehash(this.keys.length << 1);
+                return null;
+            }
+            index = (index + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Removes the value mapped to a certain key.
+     * Deletion shifts the following entries of the probe
+     * sequence backwards, so no tombstones are left behind.
+     * @param key The key.
+     * @return {@link V} The removed value, or null.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == FREE) {
+            if (!this.hasFreeKey) return null;
+            V previous = this.freeValue;
+            this.hasFreeKey = false;
+            this.freeValue = null;
+            this.size--;
+            return previous;
+        }
+        int index = mix(key) & this.mask;
+        while (true) {
+            long current = this.keys[index];
+            if (current == FREE) return null;
+            if (current == key) {
+                V previous = (V) this.values[index];
+                this.shiftKeys(index);
+                this.size--;
+                return previous;
+            }
+            index = (index + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Calls the consumer for every single
+     * value of the map, without allocating
+     * any iterator.
+     * @param consumer The consumer.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> consumer) {
+        if (this.hasFreeKey) consumer.accept(this.freeValue);
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE) consumer.accept((V) this.values[i]);
+        }
+    }
+
+    /**
+     * Calls the consumer for every single
+     * entry of the map, without allocating
+     * any iterator or boxing any key.
+     * @param consumer The consumer.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        if (this.hasFreeKey) consumer.accept(FREE, this.freeValue);
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE) consumer.accept(this.keys[i], (V) this.values[i]);
+        }
+    }
+
+    /**
+     * Removes every entry of the map,
+     * keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, FREE);
+        Arrays.fill(this.values, null);
+        this.hasFreeKey = false;
+        this.freeValue = null;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of entries.
+     * @return {@link Integer}
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether or not
+     * the map is empty.
+     * @return {@link Boolean}
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Closes the gap left by a removed entry by moving
+     * back every following entry whose probe sequence
+     * passes through the freed bucket.
+     * @param index Index of the removed entry.
+     */
+    private void shiftKeys(int index) {
+        int last;
+        int slot;
+        while (true) {
+            last = index;
+            index = (index + 1) & this.mask;
+            while (true) {
+                long current = this.keys[index];
+                if (current == FREE) {
+                    this.keys[last] = FREE;
+                    this.values[last] = null;
+                    return;
+                }
+                slot = mix(current) & this.mask;
+                if (last <= index ? (last >= slot || slot > index) : (last >= slot && slot > index)) break;
+                index = (index + 1) & this.mask;
+            }
+            this.keys[last] = this.keys[index];
+            this.values[last] = this.values[index];
+        }
+    }
+
+    /**
+     * Doubles the table, re-inserting
+     * every single entry.
+     * @param capacity The new capacity.
+     */
+    private void rehash(int capacity) {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == FREE) continue;
+            int index = mix(key) & this.mask;
+            while (this.keys[index] != FREE)
+                index = (index + 1) & this.mask;
+            this.keys[index] = key;
+            this.values[index] = oldValues[i];
+        }
+    }
+
+    /**
+     * Spreads the bits of a key, folding its
+     * upper half into the lower one, as packed
+     * chunk keys keep one coordinate in each.
+     * @param key The key.
+     * @return {@link Integer}
+     */
+    static int mix(long key) {
+        return IntObjectMap.mix((int) (key ^ (key >>> 32)));
+    }
+
+    /**
+     * Consumer for a primitive key
+     * and its value.
+     * @param <V> Type of the value.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * Consumes an entry.
+         * @param key The key.
+         * @param value The value.
+         */
+        void accept(long key, V value);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class LruCache<K, V> {
+
+    /**
+     * The maximum amount of entries
+     * the cache may hold.
+     */
+    private final int maxSize;
+
+    /**
+     * Backing map, in access order, so that the
+     * eldest entry is always the least recently used one.
+     */
+    private final LinkedHashMap<K, V> map;
+
+    /**
+     * Constructor for a bounded
+     * least-recently-used cache.
+     * @param maxSize The maximum amount of entries.
+     */
+    public LruCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.map = new LinkedHashMap<K, V>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return this.size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for a key, computing
+     * and caching it first if there isn't any. Evicts the
+     * least recently used entry once the cache is full.
+     * @param key The key.
+     * @param function Computes the value of a missing key.
+     * @return The cached value.
+     */
+    public synchronized V get(K key, Function<? super K, ? extends V> function) {
+        V value = this.map.get(key);
+        if (value == null) {
+            value = function.apply(key);
+            this.map.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Forgets every entry.
+     */
+    public synchronized void clear() {
+        this.map.clear();
+    }
+
+    /**
+     * Returns the amount of
+     * cached entries.
+     * @return {@link Integer}
+     */
+    public synchronized int size() {
+        return this.map.size();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+Copyright (c) thmihnea <mihneathm@gmail.com>
+Copyright (c) contributors
+
+This file is part of NameTagAPI, licensed under the MIT License.
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE..
+ */
+
+package by.thmihnea.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class TimingWheel<T> {
+
+    /**
+     * The slots of the wheel. Each slot holds every entry
+     * which expires whenever the cursor reaches it, along with
+     * the number of full revolutions it still has to wait.
+     */
+    private final List<Entry<T>>[] slots;
+
+    /**
+     * Mask used for wrapping indexes around,
+     * as the number of slots is always a power of two.
+     */
+    private final int mask;
+
+    /**
+     * The slot the wheel is currently
+     * pointing at.
+     */
+    private int cursor;
+
+    /**
+     * Number of entries which are
+     * currently scheduled.
+     */
+    private int size;
+
+    /**
+     * Constructor for a hashed timing wheel.
+     * Scheduling an entry and expiring it are both O(1),
+     * no matter how many entries the wheel holds. Delays longer
+     * than the amount of slots are handled by counting revolutions.
+     * @param slots Number of slots, which must be a
+     *              power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int slots) {
+        if (slots <= 0 || (slots & (slots - 1)) != 0)
+            throw new IllegalArgumentException("The number of slots must be a power of two, got " + slots + ".");
+        this.slots = new List[slots];
+        for (int i = 0; i < slots; i++)
+            this.slots[i] = new ArrayList<>();
+        this.mask = slots - 1;
+    }
+
+    /**
+     * Schedules an entry to expire after
+     * a certain amount of ticks.
+     * @param value The entry itself.
+     * @param ticks After how many calls to {@link #advance(Consumer)}
+     *              the entry should expire. Values lower than 1
+     *              expire on the next tick.
+     */
+    public void schedule(T value, int ticks) {
+        if (ticks < 1) ticks = 1;
+        int index = (this.cursor + ticks) & this.mask;
+        int rounds = (ticks - 1) / this.slots.length;
+        this.slots[index].add(new Entry<>(value, rounds));
+        this.size++;
+    }
+
+    /**
+     * Moves the wheel forward by a single tick and hands
+     * every expired entry over to the consumer. Only the slot the
+     * cursor lands on is being looked at.
+     * @param consumer Consumer for the expired entries.
+     */
+    public void advance(Consumer<T> consumer) {
+        this.cursor = (this.cursor + 1) & this.mask;
+        List<Entry<T>> slot = this.slots[this.cursor];
+        int i = 0;
+        while (i < slot.size()) {
+            Entry<T> entry = slot.get(i);
+            if (entry.rounds > 0) {
+                entry.rounds--;
+                i++;
+                continue;
+            }
+            int last = slot.size() - 1;
+            slot.set(i, slot.get(last));
+            slot.remove(last);
+            this.size--;
+            consumer.accept(entry.value);
+        }
+    }
+
+    /**
+     * Returns the number of entries which
+     * are currently scheduled.
+     * @return {@link Integer}
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether or not the wheel
+     * is empty.
+     * @return {@link Boolean}
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * A single scheduled entry.
+     * @param <T> Type of the value.
+     */
+    private static class Entry<T> {
+
+        /**
+         * The value itself.
+         */
+        private final T value;
+
+        /**
+         * Full revolutions left before
+         * the entry expires.
+         */
+        private int rounds;
+
+        Entry(T value, int rounds) {
+            this.value = value;
+            this.rounds = rounds;
+        }
+    }
+}
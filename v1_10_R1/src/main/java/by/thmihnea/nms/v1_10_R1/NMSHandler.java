@@ -3,14 +3,23 @@ package by.thmihnea.nms.v1_10_R1;
 import by.thmihnea.EntityHitbox;
 import by.thmihnea.INMSHandler;
 import by.thmihnea.NameTagAPI;
-import by.thmihnea.cache.CacheManager;
-import by.thmihnea.cache.LineCacheManager;
+import by.thmihnea.cache.AnimatedLineManager;
+import by.thmihnea.cache.ClusterManager;
+import by.thmihnea.cache.ColorCacheManager;
+import by.thmihnea.cache.DynamicLineManager;
+import by.thmihnea.cache.HealthBarManager;
+import by.thmihnea.cache.LocaleManager;
 import by.thmihnea.cache.PacketUpdateTaskManager;
+import by.thmihnea.cache.StaticHologramManager;
+import by.thmihnea.cache.TagCommandManager;
+import by.thmihnea.cache.TagOffsetManager;
+import by.thmihnea.cache.TagRegistry;
+import by.thmihnea.cache.TransientTextManager;
+import by.thmihnea.command.TagCommand;
 import by.thmihnea.nms.v1_10_R1.connection.PacketReader;
 import by.thmihnea.runnable.PacketUpdateTask;
 import net.minecraft.server.v1_10_R1.*;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.craftbukkit.v1_10_R1.CraftWorld;
 import org.bukkit.craftbukkit.v1_10_R1.entity.CraftEntity;
@@ -18,11 +27,16 @@ import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 public class NMSHandler implements INMSHandler {
 
@@ -30,7 +44,7 @@ public class NMSHandler implements INMSHandler {
      * Method used for setting the main Name Tag
      * of a specific {@link Entity}, passed as an actual
      * Bukkit API entity. This method actually changes only the
-     * line number 0 of the {@link LineCacheManager} object. This also
+     * line number 0 of the {@link TagRegistry} lines. This also
      * is the base line for each NameTag, each additional line should only be
      * placed after you've set a Name Tag to the {@link Entity}.
      * @param player Player who should see this Name Tag.
@@ -40,22 +54,20 @@ public class NMSHandler implements INMSHandler {
      */
     @Override
     public void setNameTag(Player player, Entity entity, String tag) {
-        if (CacheManager.hasNameTag(entity)) {
-            NameTagAPI.getInstance().logInfo("Entity #" + entity.getUniqueId() + " (TYPE: " + entity.getType() + ") already has a Name Tag, therefore a new one can't be set!");
+        if (!Bukkit.isPrimaryThread()) {
+            TagCommandManager.enqueue(TagCommand.setNameTag(player, entity, tag));
             return;
         }
 
-        tag = ChatColor.translateAlternateColorCodes('&', tag);
-
-        LivingEntity entityLiving = CacheManager.getArmorStand(player, entity);
-        if (entityLiving != null) {
-            Util.rename(player, entity, tag);
+        if (TagRegistry.hasNameTag(entity, player)) {
+            NameTagAPI.getInstance().logInfo("Entity #" + entity.getUniqueId() + " (TYPE: " + entity.getType() + ") already has a Name Tag, therefore a new one can't be set!");
             return;
         }
 
+        tag = ColorCacheManager.translate(tag);
+
         Location location = entity.getLocation();
-        EntityHitbox entityHitbox = EntityHitbox.getFromEntity(entity);
-        final double y = location.getY() + entityHitbox.getLocationModifier().getY();
+        final double y = location.getY() + TagOffsetManager.getOffsetY(entity);
 
         EntityArmorStand entityArmorStand = (EntityArmorStand) this.getEntityArmorStand(player, tag, location, y);
 
@@ -64,8 +76,7 @@ public class NMSHandler implements INMSHandler {
 
         LivingEntity livingEntity = (LivingEntity) entityArmorStand.getBukkitEntity();
 
-        CacheManager.addEntry(player, entity, livingEntity);
-        LineCacheManager.addEntry(player, entity, livingEntity);
+        TagRegistry.addLine(player, entity, livingEntity);
         new PacketUpdateTask(player, livingEntity, entity);
     }
 
@@ -88,26 +99,31 @@ public class NMSHandler implements INMSHandler {
      */
     @Override
     public void deleteNameTag(Player player, Entity entity) {
-        LivingEntity entityLiving = CacheManager.getArmorStand(player, entity);
-        if (entityLiving == null) return;
+        if (!Bukkit.isPrimaryThread()) {
+            TagCommandManager.enqueue(TagCommand.deleteNameTag(player, entity));
+            return;
+        }
 
-        PacketPlayOutEntityDestroy packet = new PacketPlayOutEntityDestroy(entityLiving.getEntityId());
-        Util.sendPacket(player, packet);
+        List<LivingEntity> lines = TagRegistry.removeNameTag(entity, player);
+        if (lines.isEmpty()) return;
 
-        Objects.requireNonNull(LineCacheManager.getLines(entity, player)).forEach(ent -> {
-            PacketPlayOutEntityDestroy destroyLinePacket = new PacketPlayOutEntityDestroy(ent.getEntityId());
-            Util.sendPacket(player, destroyLinePacket);
-        });
+        int[] ids = new int[lines.size()];
+        for (int i = 0; i < ids.length; i++) {
+            LivingEntity ent = lines.get(i);
+            ids[i] = ent.getEntityId();
+            PacketUpdateTask packetUpdateTask = PacketUpdateTaskManager.removeEntry(ent);
+            if (packetUpdateTask != null) packetUpdateTask.clear();
+        }
 
-        CacheManager.removeArmorStandFromCache(entity, player);
-        LineCacheManager.removeEntityFromCache(entity);
+        PacketPlayOutEntityDestroy packet = new PacketPlayOutEntityDestroy(ids);
+        Util.sendPacket(player, packet);
     }
 
     /**
      * Method used for setting the main Name Tag
      * of a specific {@link Collection} of {@link Entity}, passed as actual
      * Bukkit API entities. This method actually changes only the
-     * line number 0 of the {@link LineCacheManager} object. This also
+     * line number 0 of the {@link TagRegistry} lines. This also
      * is the base line for each NameTag, each additional line should only be
      * placed after you've set a Name Tag to the {@link Entity}.
      * @param players Players for which we should set the
@@ -124,6 +140,32 @@ public class NMSHandler implements INMSHandler {
         });
     }
 
+    /**
+     * Sets a localized Name Tag of an {@link Entity} for a
+     * {@link Collection} of players, resolving each
+     * variant once per client locale. The variants are
+     * kept with the entity, so that locale changes
+     * are picked up later on.
+     * @param players Players for which we should set the
+     *                Name Tag.
+     * @param entity The entity which holds the Name Tag.
+     * @param variants The tag in every language, pointed
+     *                 at by lower-case locales.
+     */
+    @Override
+    public void setLocalizedNameTag(Collection<? extends Player> players, Entity entity, Map<String, String> variants) {
+        if (!Bukkit.isPrimaryThread()) {
+            players.forEach(player -> TagCommandManager.enqueue(TagCommand.setLocalizedNameTag(player, entity, variants)));
+            return;
+        }
+
+        LocaleManager.groupByLocale(players).forEach((locale, viewers) -> {
+            String tag = LocaleManager.resolve(variants, locale);
+            if (tag != null) this.setNameTag(viewers, entity, tag);
+        });
+        LocaleManager.setVariants(entity, variants);
+    }
+
     /**
      * Entirely deletes the Name Tag of a {@link Collection} of
      * {@link Entity} entities.
@@ -152,7 +194,7 @@ public class NMSHandler implements INMSHandler {
      * Adds a line to an Entity Name Tag.
      * This method calculates the exact coordinates
      * that the line should have and then puts it on
-     * top of the last line in the {@link LineCacheManager#getLines(Entity, Player)}
+     * top of the last line in the {@link TagRegistry#getLines(Entity, Player)}
      * list of lines, which are actually {@link EntityLiving}, not
      * lines of Strings. :)
      * Note that this method only adds a line to a single player,
@@ -169,14 +211,18 @@ public class NMSHandler implements INMSHandler {
      */
     @Override
     public void addLine(Player player, Entity entity, String tag) {
+        if (!Bukkit.isPrimaryThread()) {
+            TagCommandManager.enqueue(TagCommand.addLine(player, entity, tag));
+            return;
+        }
 
-        List<LivingEntity> list = LineCacheManager.getLines(entity, player);
+        List<LivingEntity> list = TagRegistry.getLines(entity, player);
         if (list == null) {
             this.setNameTag(player, entity, tag);
             return;
         }
 
-        tag = ChatColor.translateAlternateColorCodes('&', tag);
+        tag = ColorCacheManager.translate(tag);
 
         int size = list.size();
         LivingEntity entityLiving = list.get(size - 1);
@@ -190,7 +236,7 @@ public class NMSHandler implements INMSHandler {
         LivingEntity armorStand = (LivingEntity) entityArmorStand.getBukkitEntity();
 
         Util.sendPacket(player, packet);
-        LineCacheManager.addEntry(player, entity, armorStand);
+        TagRegistry.addLine(player, entity, armorStand);
         new PacketUpdateTask(player, armorStand, entity, additionalY);
     }
 
@@ -198,7 +244,7 @@ public class NMSHandler implements INMSHandler {
      * Adds a line to an Entity Name Tag.
      * This method calculates the exact coordinates
      * that the line should have and then puts it on
-     * top of the last line in the {@link LineCacheManager#getLines(Entity, Player)}
+     * top of the last line in the {@link TagRegistry#getLines(Entity, Player)}
      * list of lines, which are actually {@link EntityLiving}, not
      * lines of Strings. :)
      * Note that this method only adds a line to a single player,
@@ -222,7 +268,7 @@ public class NMSHandler implements INMSHandler {
      * line, passed as a number in the parameters list.
      * Note that counting begins at 0. Deletion of
      * line number 0 is prohibited and not permitted, as it will
-     * have some negative effects with {@link CacheManager}.
+     * have some negative effects with {@link TagRegistry}.
      * I'm aiming to fix this problem in the next version
      * of the API.
      * @param player Player for which we should remove
@@ -233,23 +279,30 @@ public class NMSHandler implements INMSHandler {
      */
     @Override
     public void removeLine(Player player, Entity entity, int line) {
+        if (!Bukkit.isPrimaryThread()) {
+            TagCommandManager.enqueue(TagCommand.removeLine(player, entity, line));
+            return;
+        }
+
         if (line == 0) {
             NameTagAPI.getInstance().logSevere("Line #0 can't be deleted! Use method NMSHandler#deleteNameTag to fully get rid of the NameTag!");
             return;
         }
 
-        LivingEntity entityLiving = Objects.requireNonNull(LineCacheManager.getLines(entity, player)).get(line);
+        LivingEntity entityLiving = TagRegistry.removeLine(player, entity, line);
+        if (entityLiving == null) return;
         PacketPlayOutEntityDestroy packet = new PacketPlayOutEntityDestroy(entityLiving.getEntityId());
         Util.sendPacket(player, packet);
 
-        LineCacheManager.removeLine(player, entity, line);
-        double y0 = entity.getLocation().getY() + EntityHitbox.getFromEntity(entity).getLocationModifier().getY();
+        PacketUpdateTask removedTask = PacketUpdateTaskManager.removeEntry(entityLiving);
+        if (removedTask != null) removedTask.clear();
+
+        double y0 = entity.getLocation().getY() + TagOffsetManager.getOffsetY(entity);
 
         AtomicInteger i = new AtomicInteger(0);
-        LineCacheManager.getLines(entity, player).forEach(ent -> {
-            PacketUpdateTask packetUpdateTask = PacketUpdateTaskManager.getFromEntityLiving(ent);
-            PacketUpdateTaskManager.removeEntry(ent);
-            packetUpdateTask.clear();
+        Objects.requireNonNull(TagRegistry.getLines(entity, player)).forEach(ent -> {
+            PacketUpdateTask packetUpdateTask = PacketUpdateTaskManager.removeEntry(ent);
+            if (packetUpdateTask != null) packetUpdateTask.clear();
 
             Location location = ent.getLocation();
             EntityLiving nmsEntity = (EntityLiving) ((CraftEntity) ent).getHandle();
@@ -267,7 +320,7 @@ public class NMSHandler implements INMSHandler {
      * line, passed as a number in the parameters list.
      * Note that counting begins at 0. Deletion of
      * line number 0 is prohibited and not permitted, as it will
-     * have some negative effects with {@link CacheManager}.
+     * have some negative effects with {@link TagRegistry}.
      * I'm aiming to fix this problem in the next version
      * of the API.
      * @param players Players for which we should remove
@@ -283,6 +336,337 @@ public class NMSHandler implements INMSHandler {
         });
     }
 
+    /**
+     * Replaces every line of an {@link Entity}'s Name Tag,
+     * diffing against the lines the player already sees.
+     * Changed lines are renamed with a metadata packet carrying
+     * only the changed data, missing lines are spawned and
+     * surplus lines, always the topmost ones, are destroyed in
+     * a single packet, so the remaining lines keep their place.
+     * @param player Player for which we should set the lines.
+     * @param entity The entity which holds the Name Tag.
+     * @param lines Every line of the Name Tag, line number 0
+     *              first. An empty list deletes the Name Tag.
+     */
+    @Override
+    public void setLines(Player player, Entity entity, List<String> lines) {
+        if (!Bukkit.isPrimaryThread()) {
+            TagCommandManager.enqueue(TagCommand.setLines(player, entity, lines));
+            return;
+        }
+
+        if (lines.isEmpty()) {
+            this.deleteNameTag(player, entity);
+            return;
+        }
+
+        List<LivingEntity> current = TagRegistry.getLines(entity, player);
+        int kept = current == null ? 0 : Math.min(current.size(), lines.size());
+        for (int i = 0; i < kept; i++) {
+            LivingEntity armorStand = current.get(i);
+            Object name = this.compileName(ColorCacheManager.translate(lines.get(i)));
+            EntityArmorStand entityArmorStand = (EntityArmorStand) ((CraftEntity) armorStand).getHandle();
+            if (name.equals(entityArmorStand.getCustomName())) continue;
+            entityArmorStand.setCustomName((String) name);
+            PacketPlayOutEntityMetadata packet = new PacketPlayOutEntityMetadata(entityArmorStand.getId(), entityArmorStand.getDataWatcher(), false);
+            Util.sendPacket(player, packet);
+        }
+
+        for (int i = kept; i < lines.size(); i++)
+            this.addLine(player, entity, lines.get(i));
+
+        if (current == null || current.size() <= lines.size()) return;
+        int[] ids = new int[current.size() - lines.size()];
+        int removed = 0;
+        for (int line = current.size() - 1; line >= lines.size(); line--) {
+            LivingEntity armorStand = TagRegistry.removeLine(player, entity, line);
+            if (armorStand == null) continue;
+            ids[removed++] = armorStand.getEntityId();
+            PacketUpdateTask packetUpdateTask = PacketUpdateTaskManager.removeEntry(armorStand);
+            if (packetUpdateTask != null) packetUpdateTask.clear();
+        }
+        if (removed == 0) return;
+        Util.sendPacket(player, this.getDestroyPacket(removed == ids.length ? ids : Arrays.copyOf(ids, removed)));
+    }
+
+    /**
+     * Replaces every line of an {@link Entity}'s Name Tag
+     * for a {@link Collection} of players.
+     * @param players Players for which we should set the lines.
+     * @param entity The entity which holds the Name Tag.
+     * @param lines Every line of the Name Tag, line number 0
+     *              first. An empty list deletes the Name Tag.
+     */
+    @Override
+    public void setLines(Collection<? extends Player> players, Entity entity, List<String> lines) {
+        players.forEach(player -> {
+            this.setLines(player, entity, lines);
+        });
+    }
+
+    /**
+     * Changes the text of a single line of an {@link Entity}'s
+     * Name Tag in place, with a single metadata packet carrying
+     * only the changed data. The armor stand, its update task
+     * and the caches are left untouched.
+     * @param player Player for which we should change the line.
+     * @param entity The entity which holds the Name Tag.
+     * @param line The line number.
+     * @param tag The new text of the line.
+     */
+    @Override
+    public void setLine(Player player, Entity entity, int line, String tag) {
+        if (!Bukkit.isPrimaryThread()) {
+            TagCommandManager.enqueue(TagCommand.setLine(player, entity, line, tag));
+            return;
+        }
+
+        LivingEntity armorStand = TagRegistry.getLine(entity, player, line);
+        if (armorStand == null) return;
+
+        Object name = this.compileName(ColorCacheManager.translate(tag));
+        EntityArmorStand entityArmorStand = (EntityArmorStand) ((CraftEntity) armorStand).getHandle();
+        if (name.equals(entityArmorStand.getCustomName())) return;
+        entityArmorStand.setCustomName((String) name);
+
+        PacketPlayOutEntityMetadata packet = new PacketPlayOutEntityMetadata(entityArmorStand.getId(), entityArmorStand.getDataWatcher(), false);
+        Util.sendPacket(player, packet);
+    }
+
+    /**
+     * Changes the text of a single line of an {@link Entity}'s
+     * Name Tag in place, for a {@link Collection} of players.
+     * @param players Players for which we should change the line.
+     * @param entity The entity which holds the Name Tag.
+     * @param line The line number.
+     * @param tag The new text of the line.
+     */
+    @Override
+    public void setLine(Collection<? extends Player> players, Entity entity, int line, String tag) {
+        players.forEach(player -> {
+            this.setLine(player, entity, line, tag);
+        });
+    }
+
+    /**
+     * Shows or hides every line of an {@link Entity}'s Name Tag
+     * for a single {@link Player}, without destroying the fake
+     * armor stands. Only the custom name visibility flag is flipped,
+     * meaning a single {@link PacketPlayOutEntityMetadata} packet is sent
+     * per line, while every cached entry and {@link PacketUpdateTask}
+     * stays alive. Lines which are already in the desired state
+     * are skipped entirely.
+     * @param player Player for which we should toggle
+     *               the Name Tag.
+     * @param entity Entity holding the Name Tag.
+     * @param visible Whether or not the Name Tag should
+     *                be visible.
+     */
+    @Override
+    public void setNameTagVisible(Player player, Entity entity, boolean visible) {
+        if (!Bukkit.isPrimaryThread()) {
+            TagCommandManager.enqueue(TagCommand.setVisible(player, entity, visible));
+            return;
+        }
+
+        List<LivingEntity> lines = TagRegistry.getLines(entity, player);
+        if (lines == null) return;
+
+        lines.forEach(ent -> {
+            EntityArmorStand entityArmorStand = (EntityArmorStand) ((CraftEntity) ent).getHandle();
+            if (entityArmorStand.getCustomNameVisible() == visible) return;
+            entityArmorStand.setCustomNameVisible(visible);
+            PacketPlayOutEntityMetadata packet = new PacketPlayOutEntityMetadata(entityArmorStand.getId(), entityArmorStand.getDataWatcher(), false);
+            Util.sendPacket(player, packet);
+        });
+    }
+
+    /**
+     * Shows or hides every line of an {@link Entity}'s Name Tag
+     * for a {@link Collection} of players, without destroying the fake
+     * armor stands.
+     * @param players Players for which we should toggle
+     *                the Name Tag.
+     * @param entity Entity holding the Name Tag.
+     * @param visible Whether or not the Name Tag should
+     *                be visible.
+     */
+    @Override
+    public void setNameTagVisible(Collection<? extends Player> players, Entity entity, boolean visible) {
+        players.forEach(player -> {
+            this.setNameTagVisible(player, entity, visible);
+        });
+    }
+
+    /**
+     * Creates a static, client-sided hologram anchored to a
+     * {@link Location} instead of an {@link Entity}. Static holograms
+     * are never teleported, as they have no {@link PacketUpdateTask}; they
+     * are indexed by the chunk they're placed in and their packets are
+     * only sent whenever a player starts tracking that chunk.
+     * @param location Location of the first (top) line.
+     * @param lines The lines of the hologram, from top
+     *              to bottom.
+     * @return {@link Integer} The id of the hologram.
+     */
+    @Override
+    public int createHologram(Location location, List<String> lines) {
+        return StaticHologramManager.createHologram(location, lines);
+    }
+
+    /**
+     * Entirely deletes a static hologram which has been
+     * created with {@link #createHologram(Location, List)}, destroying
+     * it for every player in its world.
+     * @param id The id of the hologram.
+     */
+    @Override
+    public void deleteHologram(int id) {
+        StaticHologramManager.deleteHologram(id);
+    }
+
+    /**
+     * Spawns a piece of floating text which only lives
+     * for a limited amount of ticks, such as damage indicators.
+     * @param player Player who should see the text.
+     * @param location Location at which the text
+     *                 should be displayed.
+     * @param text The text itself.
+     * @param ticks For how many ticks the text should
+     *              be displayed.
+     */
+    @Override
+    public void spawnTransientText(Player player, Location location, String text, int ticks) {
+        TransientTextManager.spawn(Collections.singletonList(player), location, text, ticks);
+    }
+
+    /**
+     * Spawns a piece of floating text which only lives
+     * for a limited amount of ticks, for a {@link Collection}
+     * of players.
+     * @param players Players who should see the text.
+     * @param location Location at which the text
+     *                 should be displayed.
+     * @param text The text itself.
+     * @param ticks For how many ticks the text should
+     *              be displayed.
+     */
+    @Override
+    public void spawnTransientText(Collection<? extends Player> players, Location location, String text, int ticks) {
+        TransientTextManager.spawn(players, location, text, ticks);
+    }
+
+    /**
+     * Spawns a piece of moving floating text for a {@link Collection}
+     * of players, moved by the server out of its initial velocity.
+     * @param players Players who should see the text.
+     * @param location Location at which the text
+     *                 should be spawned.
+     * @param text The text itself.
+     * @param velocity The initial velocity of the text.
+     * @param ticks For how many ticks the text should be displayed.
+     *              Pass 0 or less to remove it as soon as it falls back
+     *              down to the height it has been spawned at.
+     */
+    @Override
+    public void spawnTransientText(Collection<? extends Player> players, Location location, String text, Vector velocity, int ticks) {
+        TransientTextManager.spawn(players, location, text, velocity, ticks);
+    }
+
+    /**
+     * Enables clustering of dense areas of tagged entities.
+     * @param cellSize Size of a grid cell, in blocks.
+     * @param threshold Minimum number of entities which
+     *                  should be aggregated.
+     * @param distance Distance past which players see the
+     *                 aggregate tag.
+     */
+    @Override
+    public void enableClustering(double cellSize, int threshold, double distance) {
+        ClusterManager.enable(cellSize, threshold, distance);
+    }
+
+    /**
+     * Disables clustering, removing every aggregate
+     * tag and showing back every individual Name Tag.
+     */
+    @Override
+    public void disableClustering() {
+        ClusterManager.disable();
+    }
+
+    /**
+     * Binds a line of an {@link Entity}'s Name Tag to a text
+     * supplier, evaluated once every period for every viewer.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number.
+     * @param supplier Supplies the raw text of the line.
+     * @param period How often, in ticks, the supplier
+     *               should be evaluated.
+     */
+    @Override
+    public void bindLine(Entity entity, int line, Supplier<String> supplier, int period) {
+        DynamicLineManager.bind(entity, line, supplier, period);
+    }
+
+    /**
+     * Unbinds a line of an {@link Entity}'s Name Tag
+     * from its supplier.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number.
+     */
+    @Override
+    public void unbindLine(Entity entity, int line) {
+        DynamicLineManager.unbind(entity, line);
+    }
+
+    /**
+     * Binds a line of a {@link LivingEntity}'s Name Tag
+     * to its health, updated on damage and healing only.
+     * @param livingEntity The entity whose health is shown.
+     * @param line The line number.
+     * @param format The format of the line, or null
+     *               for the default format.
+     */
+    @Override
+    public void bindHealthBar(LivingEntity livingEntity, int line, String format) {
+        HealthBarManager.bind(livingEntity, line, format);
+    }
+
+    /**
+     * Unbinds the health bar of a {@link LivingEntity}.
+     * @param livingEntity The entity.
+     */
+    @Override
+    public void unbindHealthBar(LivingEntity livingEntity) {
+        HealthBarManager.unbind(livingEntity);
+    }
+
+    /**
+     * Animates a line of an {@link Entity}'s Name Tag,
+     * compiling every frame once.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number.
+     * @param frames The raw text of each frame.
+     * @param interval How long, in ticks, each
+     *                 frame is shown for.
+     */
+    @Override
+    public void animateLine(Entity entity, int line, List<String> frames, int interval) {
+        AnimatedLineManager.animate(entity, line, frames, interval);
+    }
+
+    /**
+     * Stops the animation of a line of an
+     * {@link Entity}'s Name Tag.
+     * @param entity The entity holding the Name Tag.
+     * @param line The line number.
+     */
+    @Override
+    public void stopAnimation(Entity entity, int line) {
+        AnimatedLineManager.stop(entity, line);
+    }
+
     /**
      * Begin monitoring the pipeline (packets)
      * being sent and received by a certain {@link Player}.
@@ -344,6 +728,21 @@ public class NMSHandler implements INMSHandler {
         return new PacketPlayOutEntityDestroy(entityLiving.getId());
     }
 
+    /**
+     * Returns a single packet that should destroy
+     * every entity id passed as a parameter.
+     * Doesn't send it to the player; make sure to use
+     * the method {@link #sendPacket(Player, Object)} to
+     * send it as well.
+     * @param entityIds The ids of the entities which shall
+     *                  be destroyed.
+     * @return {@link Object}
+     */
+    @Override
+    public Object getDestroyPacket(int... entityIds) {
+        return new PacketPlayOutEntityDestroy(entityIds);
+    }
+
     /**
      * Returns a packet that should spawn
      * a certain {@link LivingEntity}.
@@ -360,6 +759,114 @@ public class NMSHandler implements INMSHandler {
         return new PacketPlayOutSpawnEntityLiving(entityLiving);
     }
 
+    /**
+     * Returns a packet that holds the entire metadata
+     * of a certain {@link LivingEntity}.
+     * Doesn't send it to the player; make sure to use
+     * the method {@link #sendPacket(Player, Object)} to
+     * send it as well.
+     * @param livingEntity The {@link LivingEntity} whose metadata
+     *                     shall be sent.
+     * @return {@link Object}
+     */
+    @Override
+    public Object getMetadataPacket(LivingEntity livingEntity) {
+        EntityLiving entityLiving = (EntityLiving) ((CraftEntity) livingEntity).getHandle();
+        return new PacketPlayOutEntityMetadata(entityLiving.getId(), entityLiving.getDataWatcher(), true);
+    }
+
+    /**
+     * Moves a fake armor stand, server-side only.
+     * @param livingEntity The armor stand.
+     * @param x The new X coordinate.
+     * @param y The new Y coordinate.
+     * @param z The new Z coordinate.
+     */
+    @Override
+    public void setLocation(LivingEntity livingEntity, double x, double y, double z) {
+        EntityLiving entityLiving = (EntityLiving) ((CraftEntity) livingEntity).getHandle();
+        entityLiving.setLocation(x, y, z, 0F, 0F);
+    }
+
+    /**
+     * Returns the actual height of the bounding
+     * box of a certain {@link Entity}, as the server
+     * sees it. Takes size and age into account.
+     * @param entity The entity to measure.
+     * @return {@link Double}
+     */
+    @Override
+    public double getHeight(Entity entity) {
+        return ((CraftEntity) entity).getHandle().length;
+    }
+
+    /**
+     * Returns the vertical gap between two
+     * consecutive lines.
+     * @return {@link Double}
+     */
+    @Override
+    public double getLineGap() {
+        return Util.GAP_BETWEEN_LINES;
+    }
+
+    /**
+     * Returns the current tick
+     * of the server.
+     * @return {@link Integer}
+     */
+    @Override
+    public int getCurrentTick() {
+        return MinecraftServer.currentTick;
+    }
+
+    /**
+     * Changes the custom name of a fake armor stand,
+     * server-side only.
+     * @param livingEntity The armor stand.
+     * @param text The text, color codes already translated.
+     */
+    @Override
+    public void setCustomName(LivingEntity livingEntity, String text) {
+        EntityArmorStand entityArmorStand = (EntityArmorStand) ((CraftEntity) livingEntity).getHandle();
+        entityArmorStand.setCustomName(Util.getText(text));
+    }
+
+    /**
+     * Compiles translated text into the object a
+     * custom name is stored as on this version.
+     * @param text The text, color codes already translated.
+     * @return {@link Object}
+     */
+    @Override
+    public Object compileName(String text) {
+        return Util.getText(text);
+    }
+
+    /**
+     * Changes the custom name of a fake armor stand to
+     * a compiled name, server-side only.
+     * @param livingEntity The armor stand.
+     * @param name The compiled name.
+     */
+    @Override
+    public void setCompiledName(LivingEntity livingEntity, Object name) {
+        EntityArmorStand entityArmorStand = (EntityArmorStand) ((CraftEntity) livingEntity).getHandle();
+        entityArmorStand.setCustomName((String) name);
+    }
+
+    /**
+     * Returns the compiled name a fake
+     * armor stand currently holds.
+     * @param livingEntity The armor stand.
+     * @return {@link Object}
+     */
+    @Override
+    public Object getCompiledName(LivingEntity livingEntity) {
+        EntityArmorStand entityArmorStand = (EntityArmorStand) ((CraftEntity) livingEntity).getHandle();
+        return entityArmorStand.getCustomName();
+    }
+
     /**
      * Returns a packet that should teleport
      * a certain {@link LivingEntity}.
@@ -387,7 +894,8 @@ public class NMSHandler implements INMSHandler {
      * @param player Player to have the fake {@link org.bukkit.entity.ArmorStand} packet
      *               displayed to him.
      * @param tag The {@link ArmorStand#getCustomName()} which the fake
-     *            entity will have when displaying the said packet.
+     *            entity will have when displaying the said packet,
+     *            with its color codes already translated.
      * @param location Location at which the entity
      *                 shall be displayed.
      * @param y Parameter which fixes the y-axis hitbox, in case
@@ -398,12 +906,29 @@ public class NMSHandler implements INMSHandler {
      */
     @Override
     public Object getEntityArmorStand(Player player, String tag, Location location, double y) {
-        EntityArmorStand entityArmorStand = new EntityArmorStand(((CraftWorld) player.getWorld()).getHandle());
+        Location standLocation = new Location(player.getWorld(), location.getX(), y, location.getZ(), location.getYaw(), location.getPitch());
+        return this.getEntityArmorStand(tag, standLocation);
+    }
+
+    /**
+     * Utility method designed to give us a fake {@link org.bukkit.entity.ArmorStand}
+     * entity placed exactly at the desired {@link Location}, in
+     * the location's own world.
+     * @param tag The {@link ArmorStand#getCustomName()} which the fake
+     *            entity will have when displaying the said packet,
+     *            with its color codes already translated.
+     * @param location Location at which the entity
+     *                 shall be displayed.
+     * @return {@link EntityArmorStand}
+     */
+    @Override
+    public Object getEntityArmorStand(String tag, Location location) {
+        EntityArmorStand entityArmorStand = new EntityArmorStand(((CraftWorld) location.getWorld()).getHandle());
 
-        entityArmorStand.setLocation(location.getX(), y, location.getZ(), location.getYaw(), location.getPitch());
+        entityArmorStand.setLocation(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
         entityArmorStand.setInvisible(true);
         entityArmorStand.setCustomNameVisible(true);
-        entityArmorStand.setCustomName(tag);
+        entityArmorStand.setCustomName(Util.getText(tag));
         entityArmorStand.setNoGravity(true);
         entityArmorStand.setMarker(true);
 
@@ -1,16 +1,20 @@
 package by.thmihnea.nms.v1_10_R1;
 
-import by.thmihnea.cache.CacheManager;
+import by.thmihnea.cache.TagRegistry;
+import by.thmihnea.cache.TextInternManager;
 import net.minecraft.server.v1_10_R1.EntityArmorStand;
 import net.minecraft.server.v1_10_R1.Packet;
 import net.minecraft.server.v1_10_R1.PacketPlayOutEntityMetadata;
 import org.bukkit.Location;
+import org.bukkit.craftbukkit.v1_10_R1.entity.CraftEntity;
 import org.bukkit.craftbukkit.v1_10_R1.entity.CraftPlayer;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
+import java.util.function.Function;
+
 public class Util {
 
     /**
@@ -67,12 +71,22 @@ public class Util {
      *            to.
      */
     public static void rename(Player player, Entity entity, String tag) {
-        LivingEntity entityLiving = CacheManager.getArmorStand(player, entity);
+        LivingEntity entityLiving = TagRegistry.getNameTag(entity, player);
         if (entityLiving == null) return;
-        EntityArmorStand entityArmorStand = (EntityArmorStand) entityLiving;
-        entityArmorStand.setCustomName(tag);
+        EntityArmorStand entityArmorStand = (EntityArmorStand) ((CraftEntity) entityLiving).getHandle();
+        entityArmorStand.setCustomName(Util.getText(tag));
         PacketPlayOutEntityMetadata packet = new PacketPlayOutEntityMetadata(entityArmorStand.getId(), entityArmorStand.getDataWatcher(), false);
         Util.sendPacket(player, packet);
     }
 
+    /**
+     * Returns the shared instance of an already translated
+     * tag text, interning it through the {@link TextInternManager},
+     * so every armor stand showing the same text shares it.
+     * @param tag The translated tag text.
+     * @return {@link String}
+     */
+    public static String getText(String tag) {
+        return TextInternManager.intern(tag, Function.identity());
+    }
 }
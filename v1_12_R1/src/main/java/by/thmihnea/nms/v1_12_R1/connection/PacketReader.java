@@ -1,11 +1,33 @@
 package by.thmihnea.nms.v1_12_R1.connection;
 
+import by.thmihnea.cache.StaticHologramManager;
 import io.netty.channel.*;
+import net.minecraft.server.v1_12_R1.PacketPlayOutMapChunk;
 import org.bukkit.craftbukkit.v1_12_R1.entity.CraftPlayer;
 import org.bukkit.entity.Player;
 
+import java.lang.reflect.Field;
+
 public class PacketReader {
 
+    /**
+     * Reflected chunk coordinate fields of the
+     * {@link PacketPlayOutMapChunk} packet, which are private.
+     */
+    private static Field chunkX;
+    private static Field chunkZ;
+
+    static {
+        try {
+            chunkX = PacketPlayOutMapChunk.class.getDeclaredField("a");
+            chunkX.setAccessible(true);
+            chunkZ = PacketPlayOutMapChunk.class.getDeclaredField("b");
+            chunkZ.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Begin monitoring the pipeline (packets)
      * being sent and received by a certain {@link Player}.
@@ -30,6 +52,13 @@ public class PacketReader {
 
             @Override
             public void write(ChannelHandlerContext channelHandlerContext, Object packet, ChannelPromise channelPromise) {
+                // The hook runs apart from the write itself, so that
+                // a failing hook can never drop the packet.
+                try {
+                    handleOutgoingPacket(player, packet);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
                 try {
                     super.write(channelHandlerContext, packet, channelPromise);
                 } catch (Exception e) {
@@ -58,4 +87,21 @@ public class PacketReader {
         });
     }
 
+    /**
+     * Inspects a packet which is about to be sent to a player.
+     * Whenever a chunk is being sent, the player has just started
+     * tracking it, so we let the {@link StaticHologramManager} know
+     * in order to spawn the static holograms placed inside of it.
+     * @param player Player receiving the packet.
+     * @param packet The packet itself.
+     */
+    private static void handleOutgoingPacket(Player player, Object packet) {
+        try {
+            if (packet instanceof PacketPlayOutMapChunk) {
+                StaticHologramManager.handleChunkSent(player, chunkX.getInt(packet), chunkZ.getInt(packet));
+            }
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+        }
+    }
 }
@@ -1,11 +1,14 @@
 package by.thmihnea.nms.v1_13_R2;
 
-import by.thmihnea.cache.CacheManager;
+import by.thmihnea.cache.TagRegistry;
+import by.thmihnea.cache.TextInternManager;
+import net.minecraft.server.v1_13_R2.ChatComponentText;
 import net.minecraft.server.v1_13_R2.EntityArmorStand;
 import net.minecraft.server.v1_13_R2.IChatBaseComponent;
 import net.minecraft.server.v1_13_R2.Packet;
 import net.minecraft.server.v1_13_R2.PacketPlayOutEntityMetadata;
 import org.bukkit.Location;
+import org.bukkit.craftbukkit.v1_13_R2.entity.CraftEntity;
 import org.bukkit.craftbukkit.v1_13_R2.entity.CraftPlayer;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
@@ -68,11 +71,25 @@ public class Util {
      *            to.
      */
     public static void rename(Player player, Entity entity, String tag) {
-        LivingEntity entityLiving = CacheManager.getArmorStand(player, entity);
+        LivingEntity entityLiving = TagRegistry.getNameTag(entity, player);
         if (entityLiving == null) return;
-        EntityArmorStand entityArmorStand = (EntityArmorStand) entityLiving;
-        entityArmorStand.setCustomName(IChatBaseComponent.ChatSerializer.a(tag));
+        EntityArmorStand entityArmorStand = (EntityArmorStand) ((CraftEntity) entityLiving).getHandle();
+        entityArmorStand.setCustomName(Util.getComponent(tag));
         PacketPlayOutEntityMetadata packet = new PacketPlayOutEntityMetadata(entityArmorStand.getId(), entityArmorStand.getDataWatcher(), false);
         Util.sendPacket(player, packet);
     }
+
+    /**
+     * Returns the compiled chat component of a
+     * tag text, pulling it from the {@link TextInternManager}, so
+     * every armor stand showing the same text shares a single
+     * component. The component is built directly, without a JSON
+     * round trip, so quotes and backslashes in the text are kept
+     * as they are.
+     * @param tag The translated tag text.
+     * @return {@link IChatBaseComponent}
+     */
+    public static IChatBaseComponent getComponent(String tag) {
+        return TextInternManager.intern(tag, ChatComponentText::new);
+    }
 }
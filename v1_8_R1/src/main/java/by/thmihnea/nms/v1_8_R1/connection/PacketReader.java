@@ -1,7 +1,10 @@
 package by.thmihnea.nms.v1_8_R1.connection;
 
+import by.thmihnea.cache.StaticHologramManager;
 import io.netty.channel.*;
 import net.minecraft.server.v1_8_R1.NetworkManager;
+import net.minecraft.server.v1_8_R1.PacketPlayOutMapChunk;
+import net.minecraft.server.v1_8_R1.PacketPlayOutMapChunkBulk;
 import org.bukkit.craftbukkit.v1_8_R1.entity.CraftPlayer;
 import org.bukkit.entity.Player;
 
@@ -9,6 +12,45 @@ import java.lang.reflect.Field;
 
 public class PacketReader {
 
+    /**
+     * Reflected chunk coordinate fields of the
+     * {@link PacketPlayOutMapChunk} packet, which are private.
+     */
+    private static Field chunkX;
+    private static Field chunkZ;
+
+    /**
+     * Reflected chunk data field of the {@link PacketPlayOutMapChunk}
+     * packet. In v1_8_R1, chunks are being unloaded client-side by sending
+     * an empty chunk, so we need it in order to tell both apart.
+     */
+    private static Field chunkMap;
+
+    /**
+     * Reflected chunk coordinate arrays of the
+     * {@link PacketPlayOutMapChunkBulk} packet, used
+     * for sending multiple chunks at once in v1_8_R1.
+     */
+    private static Field bulkChunkX;
+    private static Field bulkChunkZ;
+
+    static {
+        try {
+            chunkX = PacketPlayOutMapChunk.class.getDeclaredField("a");
+            chunkX.setAccessible(true);
+            chunkZ = PacketPlayOutMapChunk.class.getDeclaredField("b");
+            chunkZ.setAccessible(true);
+            chunkMap = PacketPlayOutMapChunk.class.getDeclaredField("c");
+            chunkMap.setAccessible(true);
+            bulkChunkX = PacketPlayOutMapChunkBulk.class.getDeclaredField("a");
+            bulkChunkX.setAccessible(true);
+            bulkChunkZ = PacketPlayOutMapChunkBulk.class.getDeclaredField("b");
+            bulkChunkZ.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Begin monitoring the pipeline (packets)
      * being sent and received by a certain {@link Player}.
@@ -33,6 +75,13 @@ public class PacketReader {
 
             @Override
             public void write(ChannelHandlerContext channelHandlerContext, Object packet, ChannelPromise channelPromise) {
+                // The hook runs apart from the write itself, so that
+                // a failing hook can never drop the packet.
+                try {
+                    handleOutgoingPacket(player, packet);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
                 try {
                     super.write(channelHandlerContext, packet, channelPromise);
                 } catch (Exception e) {
@@ -83,4 +132,28 @@ public class PacketReader {
         }
     }
 
+    /**
+     * Inspects a packet which is about to be sent to a player.
+     * Whenever a chunk is being sent, the player has just started
+     * tracking it, so we let the {@link StaticHologramManager} know
+     * in order to spawn the static holograms placed inside of it.
+     * @param player Player receiving the packet.
+     * @param packet The packet itself.
+     */
+    private static void handleOutgoingPacket(Player player, Object packet) {
+        try {
+            if (packet instanceof PacketPlayOutMapChunk) {
+                PacketPlayOutMapChunk.ChunkMap map = (PacketPlayOutMapChunk.ChunkMap) chunkMap.get(packet);
+                if (map.b == 0) return;
+                StaticHologramManager.handleChunkSent(player, chunkX.getInt(packet), chunkZ.getInt(packet));
+            } else if (packet instanceof PacketPlayOutMapChunkBulk) {
+                int[] x = (int[]) bulkChunkX.get(packet);
+                int[] z = (int[]) bulkChunkZ.get(packet);
+                for (int i = 0; i < x.length; i++)
+                    StaticHologramManager.handleChunkSent(player, x[i], z[i]);
+            }
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+        }
+    }
 }